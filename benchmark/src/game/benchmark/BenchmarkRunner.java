@@ -0,0 +1,13 @@
+package game.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "game.benchmark";
+        new Runner(new OptionsBuilder().include(include).build()).run();
+    }
+}
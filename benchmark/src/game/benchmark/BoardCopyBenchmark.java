@@ -0,0 +1,50 @@
+package game.benchmark;
+
+import game.components.Set;
+import game.components.board.Board;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardCopyBenchmark {
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        Set set = new Set("white", "black");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        board = set.getBoard();
+    }
+
+    @Benchmark
+    public long copyAndRelease() {
+        Board copy = board.copy();
+        long key = copy.getBitBoard().getKey();
+        copy.release();
+        return key;
+    }
+
+    @Benchmark
+    public int copyFillAndRelease() {
+        Board copy = board.copy();
+        int pieces = copy.getFloor(1, 1).isOccupied() ? 1 : 0;
+        copy.release();
+        return pieces;
+    }
+
+    @Benchmark
+    public Board rebuildWithSet() {
+        Set set = new Set("white", "black");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        return set.getBoard();
+    }
+}
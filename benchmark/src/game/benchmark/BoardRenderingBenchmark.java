@@ -0,0 +1,104 @@
+package game.benchmark;
+
+import game.components.Set;
+import game.components.board.Board;
+import game.components.board.BoardRenderer;
+import game.components.board.Floor;
+import game.engine.Moves;
+import game.properties.GameState;
+import game.server.BoardDelta;
+import game.server.MoveResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardRenderingBenchmark {
+
+    // Knights out and back, so the position after four moves is the start again.
+    private static final String[][] SHUFFLE = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+
+    private Set set;
+    private BoardRenderer textRenderer;
+    private BoardRenderer compactRenderer;
+    private BoardRenderer ansiRenderer;
+    private int ply;
+    private final MoveResult move = new MoveResult(1, 1, Moves.encode(Moves.parseSquare("e2", 0), Moves.parseSquare("e4", 0), Moves.DOUBLE_PUSH, false), "e4", GameState.IN_PROGRESS);
+
+    @Setup
+    public void setUp() {
+        set = new Set("white", "black");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        textRenderer = new BoardRenderer(set.getBoard());
+        compactRenderer = new BoardRenderer(set.getBoard(), BoardRenderer.Style.COMPACT);
+        ansiRenderer = new BoardRenderer(set.getBoard(), BoardRenderer.Style.ANSI);
+    }
+
+    // Set.displayBoard as it was before the renderer: every floor visited and the whole board built again.
+    @Benchmark
+    public String displayBoardUncached() {
+        Floor[][] floors = set.getBoard().getFloors();
+        StringBuilder display = new StringBuilder();
+        for (int i = 0; i < floors.length; i++) {
+            display.append(i + 1).append("| ");
+            for (int j = 0; j < floors[i].length; j++) {
+                if (floors[i][j].isOccupied()) display.append(floors[i][j].getCurrentOccupant().getPseudoName());
+                else display.append("--");
+                if (j != floors[1].length - 1) display.append("\t\t");
+            }
+            display.append("\n");
+        }
+        display.append("________".repeat(8));
+        display.append("\n\t");
+        for (int i = 1; i <= 8; i++) {
+            display.append(i).append("\t\t");
+        }
+        return display.toString();
+    }
+
+    @Benchmark
+    public String renderUnchanged() {
+        return textRenderer.render();
+    }
+
+    // One move between renders, as in a game played at the console.
+    @Benchmark
+    public String renderAfterMove() {
+        String[] move = SHUFFLE[ply++ % SHUFFLE.length];
+        Board board = set.getBoard();
+        set.getPlayerToMove().makeMove(board, Moves.encode(Moves.parseSquare(move[0], 0), Moves.parseSquare(move[1], 0), Moves.NORMAL, false));
+        return textRenderer.render();
+    }
+
+    @Benchmark
+    public String renderCompact() {
+        return compactRenderer.render();
+    }
+
+    @Benchmark
+    public String renderAnsi() {
+        return ansiRenderer.render();
+    }
+
+    @Benchmark
+    public String displayBoard() {
+        return set.displayBoard();
+    }
+
+    @Benchmark
+    public String boardToString() {
+        return set.getBoard().toString();
+    }
+
+    // What a spectator is sent per move instead of a rendered board.
+    @Benchmark
+    public String moveDelta() {
+        return BoardDelta.of(move).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package game.benchmark;
+
+import game.components.Set;
+import game.components.board.Board;
+import game.pieces.Queen;
+import game.pieces.Rook;
+import game.pieces.king.King;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckDetectionBenchmark {
+
+    @State(Scope.Thread)
+    public static class StartingPosition {
+        Board board;
+        King king;
+
+        @Setup
+        public void setUp() {
+            Set set = new Set("white", "black");
+            set.generateWhitePieces();
+            set.generateBlackPieces();
+            board = set.getBoard();
+            king = (King) board.getFloor(1, 5).getCurrentOccupant();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CheckMatePosition {
+        Board board;
+        King king;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            board = new Board(8, 8);
+            king = new King(BLACK, board.getFloor(7, 3));
+            new Queen(WHITE, board.getFloor(4, 3));
+            new Rook(WHITE, board.getFloor(1, 4));
+            new Rook(WHITE, board.getFloor(1, 2));
+            king.scanForChecked(board);
+        }
+    }
+
+    @Benchmark
+    public boolean scanForChecked(StartingPosition position) {
+        position.king.scanForChecked(position.board);
+        return position.king.isChecked();
+    }
+
+    @Benchmark
+    public boolean counterCheckMove(CheckMatePosition position) {
+        position.king.counterCheckMove(position.board);
+        return position.king.isCheckMated();
+    }
+}
@@ -0,0 +1,38 @@
+package game.benchmark;
+
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.notation.Fen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FenBenchmark {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private final BitBoard position = new BitBoard();
+    private final BitBoard kiwipete = Fen.toBitBoard(KIWIPETE);
+
+    @Benchmark
+    public BitBoard loadIntoBitBoard() {
+        Fen.load(KIWIPETE, position);
+        return position;
+    }
+
+    @Benchmark
+    public Board loadIntoBoard() {
+        return Fen.toBoard(KIWIPETE);
+    }
+
+    @Benchmark
+    public String writeFromBitBoard() {
+        return Fen.toFen(kiwipete);
+    }
+}
@@ -0,0 +1,76 @@
+package game.benchmark;
+
+import game.archive.GameArchiveReader;
+import game.archive.GameArchiveWriter;
+import game.components.board.BitBoard;
+import game.notation.PgnGame;
+import game.notation.PgnReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameArchiveBenchmark {
+
+    private static final int GAMES = 1000;
+    private static final String GAME = """
+            [Event "Paris"]
+            [Result "1-0"]
+
+            1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 Bxf3 5. Qxf3 dxe5 6. Bc4 Nf6 7. Qb3 Qe7
+            8. Nc3 c6 9. Bg5 b5 10. Nxb5 cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7
+            14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0
+
+            """;
+
+    private String database;
+    private Path path;
+    private GameArchiveReader archive;
+    private final BitBoard position = new BitBoard();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        database = GAME.repeat(GAMES);
+        path = Files.createTempFile("benchmark", ".archive");
+        GameArchiveWriter.convert(new StringReader(database), path);
+        archive = new GameArchiveReader(path);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        archive.close();
+        Files.deleteIfExists(path);
+    }
+
+    // Both benchmarks go through GAMES games per invocation.
+    @Benchmark
+    public long replayArchive() {
+        long moves = 0;
+        for (int game = 0; game < archive.getGameCount(); game++) {
+            archive.replay(game, position);
+            moves += position.getPly();
+        }
+        return moves;
+    }
+
+    @Benchmark
+    public long parsePgn() throws IOException {
+        long moves = 0;
+        try (PgnReader reader = new PgnReader(new StringReader(database))) {
+            PgnGame game;
+            while ((game = reader.next()) != null) {
+                moves += game.getMoveCount();
+            }
+        }
+        return moves;
+    }
+}
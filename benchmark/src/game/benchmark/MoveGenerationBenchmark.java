@@ -0,0 +1,45 @@
+package game.benchmark;
+
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.engine.Perft;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static game.properties.Colour.WHITE;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+
+    private BitBoard position;
+    private final MoveList moves = new MoveList();
+    private final Perft perft = new Perft(4);
+
+    @Setup
+    public void setUp() {
+        Set set = new Set("white", "black");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        position = BitBoard.of(set.getBoard(), WHITE);
+    }
+
+    @Benchmark
+    public int generateLegalMoves() {
+        MoveGenerator.generateLegalMoves(position, moves);
+        return moves.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long perftDepthFour() {
+        return perft.perft(position, 4);
+    }
+}
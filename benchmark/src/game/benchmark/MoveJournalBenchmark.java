@@ -0,0 +1,63 @@
+package game.benchmark;
+
+import game.archive.MoveJournal;
+import game.engine.Moves;
+import game.notation.Fen;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveJournalBenchmark {
+
+    private static final int MOVE = Moves.encode(Moves.parseSquare("g1", 0), Moves.parseSquare("f3", 0), Moves.NORMAL, false);
+
+    @Param({"EVERY_MOVE", "BATCHED", "INTERVAL"})
+    public MoveJournal.SyncPolicy policy;
+
+    private Path path;
+    private MoveJournal journal;
+    private long gameId;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("moves", ".journal");
+        journal = new MoveJournal(path, policy);
+        gameId = journal.startGame("white", "black", Fen.STARTING_POSITION);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public void recordMove() throws IOException {
+        journal.recordMove(gameId, MOVE);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int moves = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        MoveJournalBenchmark benchmark = new MoveJournalBenchmark();
+        for (MoveJournal.SyncPolicy policy : MoveJournal.SyncPolicy.values()) {
+            benchmark.policy = policy;
+            benchmark.setUp();
+            long start = System.nanoTime();
+            for (int move = 0; move < moves; move++) benchmark.recordMove();
+            benchmark.journal.sync();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long syncs = benchmark.journal.getSyncs();
+            benchmark.tearDown();
+            System.out.printf("%-10s  %10.0f moves/sec  %6d syncs%n", policy, moves / seconds, syncs);
+        }
+    }
+}
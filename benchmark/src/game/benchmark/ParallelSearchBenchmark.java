@@ -0,0 +1,76 @@
+package game.benchmark;
+
+import game.components.board.BitBoard;
+import game.engine.ParallelSearch;
+import game.engine.SearchLimits;
+import game.engine.TranspositionTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelSearchBenchmark {
+
+    private static final int DEPTH = 7;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private BitBoard[] positions;
+    private TranspositionTable transpositionTable;
+    private ParallelSearch search;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        positions = new BitBoard[Positions.SEARCH_SET.length];
+        for (int index = 0; index < positions.length; index++) {
+            positions[index] = Positions.of(Positions.SEARCH_SET[index]);
+        }
+        transpositionTable = new TranspositionTable(64);
+        search = new ParallelSearch(transpositionTable, threads);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTable() {
+        transpositionTable.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        search.close();
+    }
+
+    @Benchmark
+    public long timeToDepth() {
+        long nodes = 0;
+        for (BitBoard position : positions) {
+            search.search(position, SearchLimits.depth(DEPTH));
+            nodes += search.getNodes();
+        }
+        return nodes;
+    }
+
+    // Prints time to depth and speedup over one thread for 1, 2, 4 ... up to the number of available cores.
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        ParallelSearchBenchmark benchmark = new ParallelSearchBenchmark();
+        double baseline = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            benchmark.threads = threads;
+            benchmark.setUp();
+            benchmark.timeToDepth();
+            benchmark.clearTable();
+            long start = System.nanoTime();
+            long nodes = benchmark.timeToDepth();
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            benchmark.tearDown();
+            if (threads == 1) baseline = millis;
+            System.out.printf("threads %2d  time %8.1f ms  nodes %10d  speedup %.2f%n", threads, millis, nodes, baseline / millis);
+        }
+    }
+}
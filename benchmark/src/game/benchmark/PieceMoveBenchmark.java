@@ -0,0 +1,88 @@
+package game.benchmark;
+
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.gameExceptions.InvalidMoveException;
+import game.pieces.*;
+import game.pieces.king.King;
+import game.properties.PieceType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static game.properties.Colour.BLACK;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceMoveBenchmark {
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public PieceType type;
+
+    private Board board;
+    private Piece piece;
+    private Floor destinationFloor;
+    private Floor invalidFloor;
+
+    @Setup
+    public void setUp() {
+        board = new Board(8, 8);
+        new Pawn(BLACK, board.getFloor(6, 4));
+        new Pawn(BLACK, board.getFloor(6, 6));
+
+        Floor floor = board.getFloor(4, 4);
+        switch (type) {
+            case PAWN -> {
+                piece = new Pawn(BLACK, floor);
+                destinationFloor = board.getFloor(5, 4);
+                invalidFloor = board.getFloor(6, 4);
+            }
+            case KNIGHT -> {
+                piece = new Knight(BLACK, floor);
+                destinationFloor = board.getFloor(6, 5);
+                invalidFloor = board.getFloor(5, 5);
+            }
+            case BISHOP -> {
+                piece = new Bishop(BLACK, floor);
+                destinationFloor = board.getFloor(1, 1);
+                invalidFloor = board.getFloor(8, 8);
+            }
+            case ROOK -> {
+                piece = new Rook(BLACK, floor);
+                destinationFloor = board.getFloor(4, 8);
+                invalidFloor = board.getFloor(8, 4);
+            }
+            case QUEEN -> {
+                piece = new Queen(BLACK, floor);
+                destinationFloor = board.getFloor(1, 1);
+                invalidFloor = board.getFloor(8, 4);
+            }
+            case KING -> {
+                piece = new King(BLACK, floor);
+                destinationFloor = board.getFloor(5, 5);
+                invalidFloor = board.getFloor(4, 6);
+            }
+        }
+    }
+
+    @Benchmark
+    public Floor validMove() {
+        piece.move(destinationFloor, board);
+        piece.undoMove();
+        return piece.getCurrentFloor();
+    }
+
+    @Benchmark
+    public boolean invalidMove() {
+        try {
+            piece.move(invalidFloor, board);
+            return true;
+        } catch (InvalidMoveException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package game.benchmark;
+
+import game.components.board.BitBoard;
+import game.properties.Colour;
+import game.properties.PieceType;
+
+import static game.components.board.BitBoard.pieceIndex;
+import static game.components.board.BitBoard.square;
+
+final class Positions {
+
+    static final String[][] SEARCH_SET = {
+            {"rnbqkbnr", "pppppppp", "........", "........", "........", "........", "PPPPPPPP", "RNBQKBNR"},
+            {"r...k..r", "p.ppqpb.", "bn..pnp.", "...PN...", ".p..P...", "..N..Q.p", "PPPBBPPP", "R...K..R"},
+            {"r....rk.", ".pp.qppp", "p.np.n..", "..b.p.B.", "..B.P.b.", "P.NP.N..", ".PP.QPPP", "R....RK."},
+            {"........", "..p.....", "...p....", "KP.....r", ".R...p.k", "........", "....P.P.", "........"}
+    };
+
+    private Positions() {
+    }
+
+    // Row 0 is board rank 1, where black sets up; upper case letters are white pieces.
+    static BitBoard of(String... ranks) {
+        BitBoard position = new BitBoard();
+        for (int rank = 1; rank <= 8; rank++) {
+            for (int file = 1; file <= 8; file++) {
+                char symbol = ranks[rank - 1].charAt(file - 1);
+                if (symbol == '.') continue;
+                Colour colour = Character.isUpperCase(symbol) ? Colour.WHITE : Colour.BLACK;
+                PieceType type = switch (Character.toLowerCase(symbol)) {
+                    case 'p' -> PieceType.PAWN;
+                    case 'n' -> PieceType.KNIGHT;
+                    case 'b' -> PieceType.BISHOP;
+                    case 'r' -> PieceType.ROOK;
+                    case 'q' -> PieceType.QUEEN;
+                    default -> PieceType.KING;
+                };
+                position.put(pieceIndex(colour, type), square(rank, file));
+            }
+        }
+        return position;
+    }
+}
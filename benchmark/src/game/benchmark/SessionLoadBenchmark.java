@@ -0,0 +1,89 @@
+package game.benchmark;
+
+import game.server.MoveResult;
+import game.server.SessionHost;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionLoadBenchmark {
+
+    // Knights out and back again, so a session can keep playing without the game ever ending.
+    private static final String[] SCRIPT = {"Nf3", "Nf6", "Ng1", "Ng8"};
+
+    @Param({"100", "1000", "10000"})
+    public int sessions;
+
+    private SessionHost host;
+    private long[] sessionIds;
+    private CompletableFuture<?>[] pending;
+    private int ply;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        host = new SessionHost();
+        sessionIds = new long[sessions];
+        pending = new CompletableFuture<?>[sessions];
+        for (int session = 0; session < sessions; session++) {
+            sessionIds[session] = host.openSession("white" + session, "black" + session);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        host.close();
+    }
+
+    // One scripted move in every session; throughput times sessions gives moves per second.
+    @Benchmark
+    public int playRound() {
+        String move = SCRIPT[ply++ % SCRIPT.length];
+        for (int session = 0; session < sessionIds.length; session++) {
+            pending[session] = host.submitMove(sessionIds[session], move);
+        }
+        CompletableFuture.allOf(pending).join();
+        return ((MoveResult) pending[0].join()).getPly();
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int collection = 0; collection < 3; collection++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        SessionLoadBenchmark benchmark = new SessionLoadBenchmark();
+        benchmark.sessions = sessions;
+
+        long before = usedMemory();
+        benchmark.setUp();
+        long after = usedMemory();
+        for (int round = 0; round < SCRIPT.length; round++) benchmark.playRound();
+
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) benchmark.playRound();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        boolean isVirtual = benchmark.host.isVirtual();
+        benchmark.tearDown();
+
+        System.out.printf("sessions %d on %s threads%n", sessions, isVirtual ? "virtual" : "platform");
+        System.out.printf("memory per session %.1f KB%n", (after - before) / 1024.0 / sessions);
+        System.out.printf("moves/sec %.0f%n", (double) sessions * rounds / seconds);
+    }
+}
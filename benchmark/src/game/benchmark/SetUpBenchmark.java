@@ -0,0 +1,25 @@
+package game.benchmark;
+
+import game.components.Game;
+import game.components.Set;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetUpBenchmark {
+
+    private final Game game = new Game();
+
+    @Benchmark
+    public Set setUp() {
+        Set set = new Set("white", "black");
+        game.setUp(set);
+        return set;
+    }
+}
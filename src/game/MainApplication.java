@@ -1,109 +1,94 @@
 package game;
 
+import game.archive.MoveJournal;
 import game.components.Game;
 import game.components.Player;
 import game.components.Set;
-import game.components.board.Board;
 import game.gameExceptions.InvalidMoveException;
+import game.notation.Fen;
+import game.notation.PgnGame;
+import game.properties.GameState;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
-public class MainApplication {
-
-    public static void main(String[] args) {
-        Board board = new Board(8,8);
-        Game game = new Game();
-        Set set = new Set("Olu", "Slim");
-        Player player1 = set.getWhitePiecePlayer();
-        Player player2 = set.getBlackPiecePlayer();
-        game.setUp(set);
-
-        System.out.println(player1.getUsername() + " owns the white pieces");
-        System.out.println(player2.getUsername() + " owns the black pieces");
-        System.out.println();
-        Scanner scanner = new Scanner(System.in);
-
+import static game.properties.Colour.WHITE;
 
-        while(!set.isGameOver()) {
-            System.out.println(set.displayBoard());
-            System.out.println();
-            System.out.println(player1.getUsername() + " make move");
-            System.out.println("Enter the row and column of the piece to move");
-            System.out.print("row: ");
-            int row = scanner.nextInt();
-            if(row < 1 || row > 8){
-                System.out.println("Invalid row value. Try again");
-                continue;
-            }
-            System.out.print("column: ");
-            int column = scanner.nextInt();
-            if(column < 1 || column > 8){
-                System.out.println("Invalid column value. Try again");
-                continue;
-            }
+public class MainApplication {
 
-            System.out.println("Enter the destination row and column.");
-            System.out.print("destination row: ");
-            int destinationRow = scanner.nextInt();
-            if(destinationRow < 1 || destinationRow > 8){
-                System.out.println("Invalid row value. Try again");
-                continue;
-            }
-            System.out.print("column: ");
-            int destinationColumn = scanner.nextInt();
-            if(destinationColumn < 1 || destinationColumn > 8){
-                System.out.println("Invalid column value. Try again");
-                continue;
+    private static final Path JOURNAL = Path.of("chess.journal");
+
+    public static void main(String[] args) throws IOException {
+        try (MoveJournal journal = new MoveJournal(JOURNAL)) {
+            Set set;
+            long gameId = journal.getUnfinishedGameId();
+            if (gameId != -1) {
+                set = MoveJournal.restore(journal.getRecoveredGames().get(gameId));
+                System.out.println("Resuming the last unfinished game");
+            } else {
+                Game game = new Game();
+                set = new Set("Olu", "Slim");
+                game.setUp(set);
+                gameId = journal.startGame(set.getWhitePiecePlayer().getUsername(), set.getBlackPiecePlayer().getUsername(), Fen.STARTING_POSITION);
             }
+            Player player1 = set.getWhitePiecePlayer();
+            Player player2 = set.getBlackPiecePlayer();
 
-            try {
-                player1.makeMove(board, set.getBoard().getFloor(row, column).getCurrentOccupant(), set.getBoard().getFloor(destinationRow, destinationColumn));
-            } catch (InvalidMoveException e) {
-                System.out.println(e.getLocalizedMessage() + " try again");
-                continue;
-            }
-            System.out.println(set.displayBoard());
+            System.out.println(player1.getUsername() + " owns the white pieces");
+            System.out.println(player2.getUsername() + " owns the black pieces");
             System.out.println();
-
-            System.out.println(player2.getUsername() + " make move");
-            System.out.println("Enter the row and column of the piece to move");
-            System.out.print("row: ");
-            row = scanner.nextInt();
-            if(row < 1 || row > 8){
-                System.out.println("Invalid row value. Try again");
-                continue;
-            }
-            System.out.print("column: ");
-            column = scanner.nextInt();
-            if(column < 1 || column > 8){
-                System.out.println("Invalid column value. Try again");
-                continue;
-            }
-
-            System.out.println("Enter the destination row and column.");
-            System.out.print("destination row: ");
-            destinationRow = scanner.nextInt();
-            if(destinationRow < 1 || destinationRow > 8){
-                System.out.println("Invalid row value. Try again");
-                continue;
-            }
-            System.out.print("destination column: ");
-            destinationColumn = scanner.nextInt();
-            if(destinationColumn < 1 || destinationColumn > 8){
-                System.out.println("Invalid column value. Try again");
-                continue;
-            }
-
-            try {
-                player2.makeMove(board, set.getBoard().getFloor(row, column).getCurrentOccupant(), set.getBoard().getFloor(destinationRow, destinationColumn));
-            } catch (InvalidMoveException e) {
-                System.out.println(e.getLocalizedMessage() +  " Try again");
-
+            Scanner scanner = new Scanner(System.in);
+
+            while(!set.isGameOver()) {
+                System.out.println(set.displayBoard());
+                System.out.println();
+                Player player = set.getPlayerToMove();
+                System.out.println(player.getUsername() + " make move");
+                System.out.println("Enter the row and column of the piece to move");
+                System.out.print("row: ");
+                int row = scanner.nextInt();
+                if(row < 1 || row > 8){
+                    System.out.println("Invalid row value. Try again");
+                    continue;
+                }
+                System.out.print("column: ");
+                int column = scanner.nextInt();
+                if(column < 1 || column > 8){
+                    System.out.println("Invalid column value. Try again");
+                    continue;
+                }
+
+                System.out.println("Enter the destination row and column.");
+                System.out.print("destination row: ");
+                int destinationRow = scanner.nextInt();
+                if(destinationRow < 1 || destinationRow > 8){
+                    System.out.println("Invalid row value. Try again");
+                    continue;
+                }
+                System.out.print("destination column: ");
+                int destinationColumn = scanner.nextInt();
+                if(destinationColumn < 1 || destinationColumn > 8){
+                    System.out.println("Invalid column value. Try again");
+                    continue;
+                }
+
+                try {
+                    player.makeMove(set.getBoard(), set.getBoard().getFloor(row, column).getCurrentOccupant(), set.getBoard().getFloor(destinationRow, destinationColumn));
+                } catch (InvalidMoveException e) {
+                    System.out.println(e.getLocalizedMessage() + " Try again");
+                    continue;
+                }
+                int[] history = player.getMoveHistory();
+                journal.recordMove(gameId, history[history.length - 1]);
             }
+            System.out.println(set.displayBoard());
+            journal.endGame(gameId, resultOf(set));
         }
+    }
 
-
-
-
+    private static String resultOf(Set set) {
+        if (set.getGameState() != GameState.CHECKMATE) return PgnGame.DRAW;
+        return set.getSideToMove() == WHITE ? PgnGame.BLACK_WINS : PgnGame.WHITE_WINS;
     }
 }
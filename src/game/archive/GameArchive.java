@@ -0,0 +1,65 @@
+package game.archive;
+
+import game.components.board.BitBoard;
+import game.engine.Moves;
+import game.notation.PgnGame;
+import game.properties.PieceType;
+
+import static game.components.board.BitBoard.typeOf;
+
+/*
+ * Layout of an archive file:
+ *   header   magic, version, segment shift, game count and index offset, HEADER_SIZE bytes
+ *   games    per game: ply count (int), result (byte), FEN length (byte), FEN bytes, one short per move
+ *   index    one long offset per game
+ * The file is mapped in segments of 1 << segmentShift bytes; no game record or index entry crosses a segment boundary.
+ */
+public final class GameArchive {
+
+    public static final int MAGIC = 0x43474131;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int DEFAULT_SEGMENT_SHIFT = 26;
+    static final int GAME_HEADER_SIZE = 6;
+
+    static final String[] RESULTS = {PgnGame.UNFINISHED, PgnGame.WHITE_WINS, PgnGame.BLACK_WINS, PgnGame.DRAW};
+    private static final PieceType[] TYPES = PieceType.values();
+
+    private static final int PROMOTION = 1;
+    private static final int CASTLE = 2;
+    private static final int EN_PASSANT = 3;
+
+    private GameArchive() {
+    }
+
+    // From and to squares in 12 bits, the promotion piece in 2 and the kind of move in 2; captures and double pushes are read off the position.
+    public static short pack(int move) {
+        int kind = Moves.isPromotion(move) ? PROMOTION
+                : Moves.flag(move) == Moves.CASTLE ? CASTLE
+                : Moves.flag(move) == Moves.EN_PASSANT ? EN_PASSANT : 0;
+        int promotion = Moves.isPromotion(move) ? Moves.promotion(move).ordinal() - 1 : 0;
+        return (short) (Moves.from(move) | Moves.to(move) << 6 | promotion << 12 | kind << 14);
+    }
+
+    public static int unpack(short packed, BitBoard position) {
+        int from = packed & 0x3F;
+        int to = (packed >>> 6) & 0x3F;
+        int kind = (packed >>> 14) & 0x3;
+        return switch (kind) {
+            case PROMOTION -> Moves.encodePromotion(from, to, TYPES[((packed >>> 12) & 0x3) + 1], position.isOccupied(to));
+            case CASTLE -> Moves.encode(from, to, Moves.CASTLE, false);
+            case EN_PASSANT -> Moves.encode(from, to, Moves.EN_PASSANT, true);
+            default -> {
+                boolean isDoublePush = typeOf(position.pieceAt(from)) == PieceType.PAWN && Math.abs(to - from) == 16;
+                yield Moves.encode(from, to, isDoublePush ? Moves.DOUBLE_PUSH : Moves.NORMAL, position.isOccupied(to));
+            }
+        };
+    }
+
+    static byte resultCode(String result) {
+        for (byte code = 0; code < RESULTS.length; code++) {
+            if (RESULTS[code].equals(result)) return code;
+        }
+        return 0;
+    }
+}
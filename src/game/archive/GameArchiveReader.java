@@ -0,0 +1,151 @@
+package game.archive;
+
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.notation.Fen;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class GameArchiveReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final int gameCount;
+    private final long indexOffset;
+    private final StringBuilder fen = new StringBuilder(96);
+
+    public GameArchiveReader(Path path) throws IOException {
+        channel = FileChannel.open(path, READ);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, GameArchive.HEADER_SIZE);
+        if (header.getInt() != GameArchive.MAGIC || header.getShort() != GameArchive.VERSION) {
+            channel.close();
+            throw new IOException("Not a game archive: " + path);
+        }
+        segmentShift = header.get();
+        header.get();
+        gameCount = header.getInt();
+        indexOffset = header.getLong();
+
+        long size = channel.size();
+        long segmentSize = 1L << segmentShift;
+        segmentMask = segmentSize - 1;
+        segments = new MappedByteBuffer[(int) ((size + segmentSize - 1) >>> segmentShift)];
+        for (int index = 0; index < segments.length; index++) {
+            long start = (long) index << segmentShift;
+            segments[index] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, size - start));
+        }
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getPlyCount(int game) {
+        long offset = offsetOf(game);
+        return segmentOf(offset).getInt(positionOf(offset));
+    }
+
+    public String getResult(int game) {
+        long offset = offsetOf(game) + 4;
+        return GameArchive.RESULTS[segmentOf(offset).get(positionOf(offset))];
+    }
+
+    public String getStartingFen(int game) {
+        return readFen(offsetOf(game)).toString();
+    }
+
+    public short getPackedMove(int game, int ply) {
+        long offset = offsetOf(game);
+        MappedByteBuffer segment = segmentOf(offset);
+        int position = positionOf(offset);
+        if (ply < 0 || ply >= segment.getInt(position)) throw new IndexOutOfBoundsException(ply);
+        int fenLength = segment.get(position + 5) & 0xFF;
+        return segment.getShort(position + GameArchive.GAME_HEADER_SIZE + fenLength + 2 * ply);
+    }
+
+    // Plays the game on a reused position; nothing is allocated per move.
+    public void replay(int game, BitBoard position) {
+        long offset = offsetOf(game);
+        MappedByteBuffer segment = segmentOf(offset);
+        int start = positionOf(offset);
+        int plyCount = segment.getInt(start);
+        int fenLength = segment.get(start + 5) & 0xFF;
+        Fen.load(readFen(offset), position);
+        int moves = start + GameArchive.GAME_HEADER_SIZE + fenLength;
+        for (int ply = 0; ply < plyCount; ply++) {
+            position.makeMove(GameArchive.unpack(segment.getShort(moves + 2 * ply), position));
+        }
+    }
+
+    // Moves are decoded against the board's own bit board and played through the players, so game.pieces checks each of them.
+    public void replay(int game, Set set) {
+        long offset = offsetOf(game);
+        MappedByteBuffer segment = segmentOf(offset);
+        int start = positionOf(offset);
+        int plyCount = segment.getInt(start);
+        int fenLength = segment.get(start + 5) & 0xFF;
+        set.setUp(readFen(offset).toString());
+        BitBoard position = set.getBoard().getBitBoard();
+        int moves = start + GameArchive.GAME_HEADER_SIZE + fenLength;
+        for (int ply = 0; ply < plyCount; ply++) {
+            int move = GameArchive.unpack(segment.getShort(moves + 2 * ply), position);
+            set.getPlayerToMove().makeMove(set.getBoard(), move);
+        }
+    }
+
+    private CharSequence readFen(long offset) {
+        MappedByteBuffer segment = segmentOf(offset);
+        int start = positionOf(offset);
+        int fenLength = segment.get(start + 5) & 0xFF;
+        if (fenLength == 0) return Fen.STARTING_POSITION;
+        fen.setLength(0);
+        for (int index = 0; index < fenLength; index++) {
+            fen.append((char) segment.get(start + GameArchive.GAME_HEADER_SIZE + index));
+        }
+        return fen;
+    }
+
+    private long offsetOf(int game) {
+        if (game < 0 || game >= gameCount) throw new IndexOutOfBoundsException(game);
+        long entry = indexOffset + 8L * game;
+        return segmentOf(entry).getLong(positionOf(entry));
+    }
+
+    private MappedByteBuffer segmentOf(long offset) {
+        return segments[(int) (offset >>> segmentShift)];
+    }
+
+    private int positionOf(long offset) {
+        return (int) (offset & segmentMask);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        try (GameArchiveReader reader = new GameArchiveReader(Path.of(args[0]))) {
+            BitBoard position = new BitBoard();
+            long moves = 0;
+            long start = System.nanoTime();
+            for (int game = 0; game < reader.getGameCount(); game++) {
+                reader.replay(game, position);
+                moves += reader.getPlyCount(game);
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.println("Games: " + reader.getGameCount());
+            System.out.println("Moves: " + moves);
+            System.out.println("Time: " + elapsed / 1_000_000 + " ms");
+            System.out.println("Games/second: " + (elapsed == 0 ? 0 : reader.getGameCount() * 1_000_000_000L / elapsed));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package game.archive;
+
+import game.notation.Fen;
+import game.notation.PgnGame;
+import game.notation.PgnReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.*;
+
+// Writes through the channel rather than a mapping, so the file can be cut to size on close with nothing still mapped.
+// Records are laid out by segment all the same, since the reader maps the file one segment at a time.
+public class GameArchiveWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int segmentShift;
+    private final long segmentSize;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    // Where in the file the start of the buffer goes.
+    private long bufferStart = GameArchive.HEADER_SIZE;
+    private long[] offsets = new long[1024];
+    private int gameCount;
+
+    public GameArchiveWriter(Path path) throws IOException {
+        this(path, GameArchive.DEFAULT_SEGMENT_SHIFT);
+    }
+
+    public GameArchiveWriter(Path path, int segmentShift) throws IOException {
+        if (segmentShift < 8 || segmentShift > 30) throw new IllegalArgumentException("Segment shift must be between 8 and 30");
+        this.segmentShift = segmentShift;
+        segmentSize = 1L << segmentShift;
+        channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+    }
+
+    public void add(PgnGame game) {
+        String fen = game.getStartingFen();
+        byte[] fenBytes = Fen.STARTING_POSITION.equals(fen) ? new byte[0] : fen.getBytes(StandardCharsets.US_ASCII);
+        if (fenBytes.length > 255) throw new IllegalArgumentException("FEN is too long for the archive");
+        int moveCount = game.getMoveCount();
+        reserve(GameArchive.GAME_HEADER_SIZE + fenBytes.length + 2L * moveCount);
+
+        if (gameCount == offsets.length) offsets = Arrays.copyOf(offsets, gameCount * 2);
+        offsets[gameCount++] = position();
+        buffer.putInt(moveCount);
+        buffer.put(GameArchive.resultCode(game.getResult()));
+        buffer.put((byte) fenBytes.length);
+        buffer.put(fenBytes);
+        for (int ply = 0; ply < moveCount; ply++) {
+            buffer.putShort(GameArchive.pack(game.getMove(ply)));
+        }
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    private long position() {
+        return bufferStart + buffer.position();
+    }
+
+    // Moves on to the next segment when the record would not fit in what is left of this one.
+    private void reserve(long bytes) {
+        if (bytes > segmentSize) throw new IllegalArgumentException("Game does not fit in an archive segment");
+        long segmentEnd = ((position() >>> segmentShift) + 1) << segmentShift;
+        if (position() + bytes > segmentEnd) {
+            flush();
+            bufferStart = segmentEnd;
+        }
+        if (buffer.remaining() < bytes) {
+            flush();
+            if (buffer.capacity() < bytes) buffer = ByteBuffer.allocate((int) bytes);
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) bufferStart += channel.write(buffer, bufferStart);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Could not write to the archive", exception);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            bufferStart = (bufferStart + 7) & ~7L;
+            long indexOffset = position();
+            for (int game = 0; game < gameCount; game++) {
+                reserve(8);
+                buffer.putLong(offsets[game]);
+            }
+            flush();
+            long size = bufferStart;
+
+            ByteBuffer header = ByteBuffer.allocate(GameArchive.HEADER_SIZE);
+            header.putInt(GameArchive.MAGIC);
+            header.putShort(GameArchive.VERSION);
+            header.put((byte) segmentShift);
+            header.put((byte) 0);
+            header.putInt(gameCount);
+            header.putLong(indexOffset);
+            header.clear();
+            while (header.hasRemaining()) channel.write(header, header.position());
+
+            channel.truncate(size);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    public static int convert(Path pgn, Path archive) throws IOException {
+        try (Reader reader = Files.newBufferedReader(pgn, StandardCharsets.UTF_8)) {
+            return convert(reader, archive);
+        }
+    }
+
+    public static int convert(Reader pgn, Path archive) throws IOException {
+        try (PgnReader reader = new PgnReader(pgn); GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+            PgnGame game;
+            while ((game = reader.next()) != null) {
+                writer.add(game);
+            }
+            return writer.getGameCount();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        int games = convert(Path.of(args[0]), Path.of(args[1]));
+        long elapsed = System.nanoTime() - start;
+        System.out.println("Games: " + games);
+        System.out.println("Time: " + elapsed / 1_000_000 + " ms");
+        System.out.println("Games/second: " + (elapsed == 0 ? 0 : games * 1_000_000_000L / elapsed));
+    }
+}
@@ -0,0 +1,271 @@
+package game.archive;
+
+import game.components.Player;
+import game.components.Set;
+import game.notation.PgnGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static java.nio.file.StandardOpenOption.*;
+
+// Append-only log of the games being played, so they can be rebuilt after the program exits or crashes.
+// Every record is its body length, a CRC32 of the body and the body itself; a record cut short by a crash fails its check,
+// and recovery stops there and cuts it off so new records follow the last good one.
+public class MoveJournal implements Closeable {
+
+    public enum SyncPolicy {
+        // Forced to disk before recordMove returns. Nothing acknowledged is ever lost.
+        EVERY_MOVE,
+        // Forced once a batch of records has been written, and on sync and close.
+        BATCHED,
+        // Forced by a background thread on a fixed interval, and on sync and close.
+        INTERVAL
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final long DEFAULT_INTERVAL_MILLIS = 100;
+
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_BODY_SIZE = 1024;
+    private static final byte GAME_STARTED = 1;
+    private static final byte MOVE = 2;
+    private static final byte GAME_ENDED = 3;
+
+    private final FileChannel channel;
+    private final SyncPolicy policy;
+    private final int batchSize;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final ByteBuffer body = ByteBuffer.allocate(MAX_BODY_SIZE);
+    private final CRC32 crc = new CRC32();
+    private final Map<Long, PgnGame> recoveredGames;
+    private final ScheduledExecutorService syncer;
+    private long nextGameId;
+    private int unsyncedRecords;
+    private long recordsWritten;
+    private long syncs;
+
+    public MoveJournal(Path path) throws IOException {
+        this(path, SyncPolicy.EVERY_MOVE);
+    }
+
+    public MoveJournal(Path path, SyncPolicy policy) throws IOException {
+        this(path, policy, DEFAULT_BATCH_SIZE, DEFAULT_INTERVAL_MILLIS);
+    }
+
+    public MoveJournal(Path path, SyncPolicy policy, int batchSize, long intervalMillis) throws IOException {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be at least 1");
+        if (intervalMillis < 1) throw new IllegalArgumentException("Interval must be at least 1 millisecond");
+        this.policy = policy;
+        this.batchSize = batchSize;
+        channel = FileChannel.open(path, CREATE, READ, WRITE);
+        Map<Long, PgnGame> games = new LinkedHashMap<>();
+        try {
+            long end = read(channel, games);
+            channel.truncate(end);
+            channel.position(end);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+        recoveredGames = Collections.unmodifiableMap(games);
+        for (long gameId : games.keySet()) nextGameId = Math.max(nextGameId, gameId);
+
+        if (policy == SyncPolicy.INTERVAL) {
+            syncer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "move-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleAtFixedRate(this::syncQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            syncer = null;
+        }
+    }
+
+    // Every game found in the journal by id, in the order they were started, with the moves that made it to disk.
+    public static Map<Long, PgnGame> recover(Path path) throws IOException {
+        Map<Long, PgnGame> games = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            read(channel, games);
+        }
+        return games;
+    }
+
+    // Rebuilds the set of a recovered game by playing its moves again.
+    public static Set restore(PgnGame game) {
+        Set set = new Set(new Player(game.getTag("White"), WHITE), new Player(game.getTag("Black"), BLACK));
+        game.replay(set);
+        return set;
+    }
+
+    public Map<Long, PgnGame> getRecoveredGames() {
+        return recoveredGames;
+    }
+
+    // The most recently started game that has no result yet, or -1 when every game in the journal is over.
+    public long getUnfinishedGameId() {
+        long unfinished = -1;
+        for (Map.Entry<Long, PgnGame> game : recoveredGames.entrySet()) {
+            if (PgnGame.UNFINISHED.equals(game.getValue().getResult())) unfinished = game.getKey();
+        }
+        return unfinished;
+    }
+
+    public synchronized long startGame(String white, String black, String fen) throws IOException {
+        long gameId = ++nextGameId;
+        body.clear();
+        body.put(GAME_STARTED).putLong(gameId);
+        putString(white);
+        putString(black);
+        putString(fen);
+        append();
+        return gameId;
+    }
+
+    public synchronized void recordMove(long gameId, int move) throws IOException {
+        body.clear();
+        body.put(MOVE).putLong(gameId).putInt(move);
+        append();
+    }
+
+    public synchronized void endGame(long gameId, String result) throws IOException {
+        body.clear();
+        body.put(GAME_ENDED).putLong(gameId).put(GameArchive.resultCode(result));
+        append();
+    }
+
+    // Writes out anything buffered and forces it to disk.
+    public synchronized void sync() throws IOException {
+        writeBuffer();
+        if (unsyncedRecords == 0) return;
+        channel.force(false);
+        unsyncedRecords = 0;
+        syncs++;
+    }
+
+    public synchronized long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    public synchronized long getSyncs() {
+        return syncs;
+    }
+
+    public SyncPolicy getPolicy() {
+        return policy;
+    }
+
+    private void append() throws IOException {
+        body.flip();
+        crc.reset();
+        crc.update(body.array(), 0, body.limit());
+        if (buffer.remaining() < RECORD_HEADER_SIZE + body.limit()) writeBuffer();
+        buffer.putInt(body.limit()).putInt((int) crc.getValue()).put(body);
+        recordsWritten++;
+        unsyncedRecords++;
+        if (policy == SyncPolicy.EVERY_MOVE || (policy == SyncPolicy.BATCHED && unsyncedRecords >= batchSize)) sync();
+    }
+
+    private void putString(String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 255) throw new IllegalArgumentException("Journal strings are limited to 255 bytes");
+        body.put((byte) bytes.length).put(bytes);
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException exception) {
+            // tried again on the next tick, and close reports the failure
+        }
+    }
+
+    // Reads every intact record into games and returns where the intact part of the file ends.
+    private static long read(FileChannel channel, Map<Long, PgnGame> games) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        ByteBuffer record = ByteBuffer.allocate(MAX_BODY_SIZE);
+        CRC32 crc = new CRC32();
+        long position = 0;
+        long size = channel.size();
+        while (position + RECORD_HEADER_SIZE <= size) {
+            header.clear();
+            channel.read(header, position);
+            int length = header.getInt(0);
+            if (length < 1 || length > MAX_BODY_SIZE || position + RECORD_HEADER_SIZE + length > size) break;
+            record.clear().limit(length);
+            channel.read(record, position + RECORD_HEADER_SIZE);
+            crc.reset();
+            crc.update(record.array(), 0, length);
+            if ((int) crc.getValue() != header.getInt(4)) break;
+            record.flip();
+            apply(record, games);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static void apply(ByteBuffer record, Map<Long, PgnGame> games) {
+        byte type = record.get();
+        long gameId = record.getLong();
+        if (type == GAME_STARTED) {
+            PgnGame game = new PgnGame();
+            game.setTag("White", getString(record));
+            game.setTag("Black", getString(record));
+            String fen = getString(record);
+            if (!fen.isEmpty() && !fen.equals(game.getStartingFen())) {
+                game.setTag("SetUp", "1");
+                game.setTag("FEN", fen);
+            }
+            games.put(gameId, game);
+            return;
+        }
+        PgnGame game = games.get(gameId);
+        if (game == null) return;
+        if (type == MOVE) game.addMove(record.getInt());
+        else if (type == GAME_ENDED) game.setResult(GameArchive.RESULTS[record.get()]);
+    }
+
+    private static String getString(ByteBuffer record) {
+        byte[] bytes = new byte[record.get() & 0xFF];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (syncer != null) {
+            // A sync that is already running has to finish before the last one, or it could write after the channel is closed.
+            syncer.shutdown();
+            try {
+                syncer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package game.components;
+
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.Moves;
+import game.engine.ParallelSearch;
+import game.engine.SearchLimits;
+import game.engine.TranspositionTable;
+import game.gameExceptions.InvalidMoveException;
+import game.properties.Colour;
+
+// Owns the threads of its search when it has more than one, so it has to be closed.
+public class ComputerPlayer extends Player implements AutoCloseable {
+
+    public static final int DEFAULT_HASH_MEGABYTES = 16;
+
+    private final ParallelSearch search;
+    private final SearchLimits limits;
+
+    public ComputerPlayer(String username, Colour colour, SearchLimits limits) {
+        this(username, colour, limits, new TranspositionTable(DEFAULT_HASH_MEGABYTES));
+    }
+
+    public ComputerPlayer(String username, Colour colour, SearchLimits limits, TranspositionTable transpositionTable) {
+        this(username, colour, limits, transpositionTable, 1);
+    }
+
+    public ComputerPlayer(String username, Colour colour, SearchLimits limits, TranspositionTable transpositionTable, int threads) {
+        super(username, colour);
+        this.limits = limits;
+        search = new ParallelSearch(transpositionTable, threads);
+    }
+
+    // Searches from the set's position when playing in one, so en passant and the game's earlier positions are known.
+    public int playMove(Board board) {
+        Set set = getSet();
+        BitBoard position = set != null && set.getBoard() == board && set.getSideToMove() == getColour() ? set.currentPosition() : BitBoard.of(board, getColour());
+        int move = search.search(position, limits);
+        if(move == Moves.NONE) throw new InvalidMoveException("Invalid move. No legal move available");
+        makeMove(board, move);
+        return move;
+    }
+
+    public ParallelSearch getSearch() {
+        return search;
+    }
+
+    @Override
+    public void close() {
+        search.close();
+    }
+}
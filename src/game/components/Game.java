@@ -1,5 +1,7 @@
 package game.components;
 
+import game.properties.GameState;
+
 public class Game {
 
 
@@ -9,5 +11,15 @@ public class Game {
         //TOdo
     }
 
-
+    public GameState playComputerGame(Set set, int maxMoves) {
+        setUp(set);
+        GameState state = set.getGameState();
+        for (int move = 0; move < maxMoves && !state.isOver(); move++) {
+            Player player = set.getPlayerToMove();
+            if (!(player instanceof ComputerPlayer)) break;
+            ((ComputerPlayer) player).playMove(set.getBoard());
+            state = set.getGameState();
+        }
+        return state;
+    }
 }
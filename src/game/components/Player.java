@@ -2,27 +2,40 @@ package game.components;
 
 import game.components.board.Board;
 import game.components.board.Floor;
+import game.engine.Moves;
 import game.gameExceptions.InvalidMoveException;
-import game.pieces.Piece;
+import game.pieces.*;
+import game.pieces.king.King;
 import game.properties.Colour;
+import game.properties.PieceType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static game.components.board.BitBoard.fileOf;
+import static game.components.board.BitBoard.rankOf;
+import static game.components.board.BitBoard.square;
 
 public class Player {
 
     private final Colour colour;
     private String username;
-    private static int id;
-    private Stack<Piece> moves;
-    private List<Piece> capturedPieces;
+    private static final AtomicInteger ID_SEQUENCE = new AtomicInteger();
+    private final int id;
+    private final List<Turn> turns = new ArrayList<>();
+    private int[] moveHistory = new int[64];
+    private Set set;
 
     public Player(String username, Colour colour) {
+        this(username, colour, ID_SEQUENCE.incrementAndGet());
+    }
+
+    // For callers that number their players themselves, like a GameHost, so they are unaffected by resetId.
+    public Player(String username, Colour colour, int id) {
         this.username = username;
-        id++;
-        moves = new Stack<>();
-        capturedPieces = new ArrayList<>();
+        this.id = id;
         this.colour = colour;
     }
 
@@ -37,11 +50,124 @@ public class Player {
             if (destinationFloor.getCurrentOccupant().getColour() != piece.getColour())
                  capturedPiece = destinationFloor.getCurrentOccupant();
         }
+        long positionKey = positionKey();
+        Floor floor = piece.getCurrentFloor();
+        boolean isDoublePush = piece instanceof Pawn && Math.abs(destinationFloor.getRank() - floor.getRank()) == 2;
+        int move = Moves.encode(square(floor), square(destinationFloor), isDoublePush ? Moves.DOUBLE_PUSH : Moves.NORMAL, capturedPiece != null);
         piece.move(destinationFloor, board);
 
-        moves.push(piece);
-        capturedPieces.add(capturedPiece);
+        record(piece, capturedPiece, move, positionKey);
+
+    }
+
+    public void makeMove(Board board, int move) {
+        Floor floor = floorOf(board, Moves.from(move));
+        Floor destinationFloor = floorOf(board, Moves.to(move));
+        Piece piece = floor.getCurrentOccupant();
+        if(piece == null) throw new InvalidMoveException("Invalid move");
+
+        if(Moves.flag(move) == Moves.CASTLE) {
+            castle(board, piece, board.getFloor(floor.getRank(), destinationFloor.getFile() == 7 ? 8 : 1), move);
+            return;
+        }
+        if(Moves.flag(move) == Moves.EN_PASSANT) {
+            if(!(piece instanceof Pawn) || piece.getColour() != getColour()) throw new InvalidMoveException("Invalid move");
+            // Only the set knows which move was played last; the pawn alone can only tell that the victim's own last move was a double step.
+            if(set != null && set.getEnPassantSquare() != square(destinationFloor)) throw new InvalidMoveException("Invalid move");
+            Piece capturedPiece = board.getFloor(floor.getRank(), destinationFloor.getFile()).getCurrentOccupant();
+            long positionKey = positionKey();
+            ((Pawn) piece).captureEnPassant(destinationFloor, board);
+            record(piece, capturedPiece, move, positionKey);
+            return;
+        }
+        makeMove(board, piece, destinationFloor);
+        if(Moves.isPromotion(move)) {
+            Piece promoted = promote(Moves.promotion(move), destinationFloor);
+            lastTurn().promoted = promoted;
+            if(set != null) set.replacePiece(piece, promoted);
+        }
+        moveHistory[turns.size() - 1] = move;
+    }
+
+    private Turn record(Piece piece, Piece capturedPiece, int move, long positionKey) {
+        if(turns.size() == moveHistory.length) moveHistory = Arrays.copyOf(moveHistory, moveHistory.length * 2);
+        moveHistory[turns.size()] = move;
+        Turn turn = new Turn(piece, capturedPiece, positionKey);
+        turns.add(turn);
+        return turn;
+    }
+
+    private Turn lastTurn() {
+        return turns.get(turns.size() - 1);
+    }
+
+    private void castle(Board board, Piece king, Floor rookFloor, int move) {
+        Piece rook = rookFloor.getCurrentOccupant();
+        if(!(king instanceof King) || !(rook instanceof Rook) || king.getColour() != getColour())
+            throw new InvalidMoveException("Invalid move");
+        long positionKey = positionKey();
+        ((King) king).castle((Rook) rook, board);
+        record(king, null, move, positionKey).castledRook = (Rook) rook;
+    }
+
+    private Piece promote(PieceType type, Floor floor) {
+        return switch (type) {
+            case KNIGHT -> new Knight(colour, floor);
+            case BISHOP -> new Bishop(colour, floor);
+            case ROOK -> new Rook(colour, floor);
+            default -> new Queen(colour, floor);
+        };
+    }
+
+    // The set whose piece lists follow this player's promotions.
+    void joinSet(Set set) {
+        this.set = set;
+    }
+
+    Set getSet() {
+        return set;
+    }
 
+    // The key of the set's position before a move is played, so the set can tell when a position comes round again.
+    private long positionKey() {
+        return set == null ? 0L : set.positionKey();
+    }
+
+    long[] getPositionKeys() {
+        long[] keys = new long[turns.size()];
+        for (int index = 0; index < keys.length; index++) keys[index] = turns.get(index).positionKey;
+        return keys;
+    }
+
+    // Forgets every move, for when the set is set up again from a new position.
+    void clearHistory() {
+        turns.clear();
+    }
+
+    private Floor floorOf(Board board, int square) {
+        return board.getFloor(rankOf(square), fileOf(square));
+    }
+
+    public int getMoveCount() {
+        return turns.size();
+    }
+
+    // Moves in the order they were played, encoded as in Moves.
+    public int[] getMoveHistory() {
+        return Arrays.copyOf(moveHistory, turns.size());
+    }
+
+    public Piece getLastMovedPiece() {
+        return turns.isEmpty() ? null : lastTurn().piece;
+    }
+
+    // Index among this player's own moves of the latest pawn move or capture, or -1 if there was none.
+    public int getLastIrreversibleMoveIndex() {
+        for (int index = turns.size() - 1; index >= 0; index--) {
+            Turn turn = turns.get(index);
+            if (turn.piece instanceof Pawn || turn.capturedPiece != null) return index;
+        }
+        return -1;
     }
 
     public Colour getColour() {
@@ -49,16 +175,40 @@ public class Player {
     }
 
     public void undoMove() {
-        Piece piece = moves.pop();
-        piece.undoMove();
-
+        Turn turn = turns.remove(turns.size() - 1);
+        if(turn.castledRook != null) {
+            ((King) turn.piece).undoCastle(turn.castledRook);
+            return;
+        }
+        if(turn.promoted != null) {
+            // The pawn's undo clears the floor the promoted piece stands on, so it only has to be taken out of play.
+            if(set != null) set.replacePiece(turn.promoted, turn.piece);
+            turn.piece.capture(turn.promoted);
+        }
+        turn.piece.undoMove();
     }
 
-    public void resetId(){
-        id = 0;
+    // Restarts the shared sequence that numbers players made without an id.
+    public static void resetId(){
+        ID_SEQUENCE.set(0);
     }
 
     public String getUsername() {
         return username;
     }
+
+    // Everything one move changed, so that undo can take back a castling or a promotion as a whole.
+    private static class Turn {
+        private final Piece piece;
+        private final Piece capturedPiece;
+        private final long positionKey;
+        private Piece promoted;
+        private Rook castledRook;
+
+        private Turn(Piece piece, Piece capturedPiece, long positionKey) {
+            this.piece = piece;
+            this.capturedPiece = capturedPiece;
+            this.positionKey = positionKey;
+        }
+    }
 }
@@ -1,14 +1,25 @@
 package game.components;
 
+import game.components.board.BitBoard;
 import game.components.board.Board;
+import game.components.board.BoardRenderer;
 import game.components.board.Floor;
+import game.components.board.PositionSnapshot;
+import game.components.board.Zobrist;
+import game.engine.GameStateEvaluator;
+import game.notation.Fen;
 import game.pieces.*;
 import game.pieces.king.King;
+import game.properties.Colour;
+import game.properties.GameState;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.square;
 import static game.properties.Colour.*;
 
 public class Set {
@@ -21,6 +32,13 @@ public class Set {
     private final Player blackPiecePlayer;
     private King blackKing;
     private King whiteKing;
+    private GameStateEvaluator evaluator;
+    private BoardRenderer renderer;
+    private String initialFen = Fen.STARTING_POSITION;
+    private Colour firstToMove = WHITE;
+    private int initialEnPassantSquare = EMPTY;
+    private int initialHalfMoveClock;
+    private int initialFullMoveNumber = 1;
 
 
     public Set(String firstPlayer, String secondPlayer) {
@@ -36,6 +54,16 @@ public class Set {
             this.blackPiecePlayer = new Player(firstPlayer, BLACK);
 
         }
+        whitePiecePlayer.joinSet(this);
+        blackPiecePlayer.joinSet(this);
+    }
+
+    public Set(Player whitePiecePlayer, Player blackPiecePlayer) {
+        board = new Board(8,8);
+        this.whitePiecePlayer = whitePiecePlayer;
+        this.blackPiecePlayer = blackPiecePlayer;
+        whitePiecePlayer.joinSet(this);
+        blackPiecePlayer.joinSet(this);
     }
 
     public Board getBoard() {
@@ -176,31 +204,146 @@ public class Set {
         }
     }
 
-    public String displayBoard(){
-        Floor[][] floors = board.getFloors();
-        StringBuilder display = new StringBuilder();
-        for (int i = 0; i< floors.length; i++) {
-            display.append(i + 1).append("| ");
-            for (int j = 0; j < floors[i].length; j++) {
-                if (floors[i][j].isOccupied()) {
-                    Piece occupant = floors[i][j].getCurrentOccupant();
-                    display.append(occupant.getPseudoName());
-                } else {
-                    display.append("--");
-                }
-                if(j != floors[1].length - 1) display .append("\t\t");
+    public void setUp(String fen) {
+        setUp(Fen.toBitBoard(fen), fen);
+    }
+
+    public void setUp(PositionSnapshot snapshot) {
+        BitBoard position = snapshot.toBitBoard();
+        setUp(position, Fen.toFen(position));
+    }
+
+    // Whatever was on the board, and every move played on it, is replaced by the given position.
+    private void setUp(BitBoard position, String fen) {
+        clear();
+        for (Piece piece : Fen.place(position, board)) {
+            if (piece.getColour() == WHITE) whitePieces.add(piece);
+            else blackPieces.add(piece);
+            if (piece instanceof King) {
+                if (piece.getColour() == WHITE) whiteKing = (King) piece;
+                else blackKing = (King) piece;
+            }
+        }
+        hasGeneratedWhitePieces = true;
+        hasGeneratedBlackPieces = true;
+        initialFen = fen;
+        firstToMove = position.getSideToMove();
+        initialEnPassantSquare = position.getEnPassantSquare();
+        initialHalfMoveClock = position.getHalfMoveClock();
+        initialFullMoveNumber = position.getFullMoveNumber();
+    }
+
+    private void clear() {
+        for (Floor[] rank : board.getFloors()) {
+            for (Floor floor : rank) {
+                if (floor.getCurrentOccupant() != null) floor.setOccupant(null);
+                floor.setOccupyStatus(false);
             }
-            display.append("\n");
         }
-        display.append("________" .repeat(8));
-        display.append("\n\t");
+        whitePieces.clear();
+        blackPieces.clear();
+        whiteKing = null;
+        blackKing = null;
+        whitePiecePlayer.clearHistory();
+        blackPiecePlayer.clearHistory();
+    }
+
+    // Swaps a pawn for the piece it was promoted to, or back again when the promotion is undone.
+    void replacePiece(Piece piece, Piece replacement) {
+        List<Piece> pieces = replacement.getColour() == WHITE ? whitePieces : blackPieces;
+        int index = pieces.indexOf(piece);
+        if (index >= 0) pieces.set(index, replacement);
+        else pieces.add(replacement);
+    }
 
+    public List<Piece> getPieces(Colour colour) {
+        return Collections.unmodifiableList(colour == WHITE ? whitePieces : blackPieces);
+    }
 
-        for (int i = 1; i <= 8; i++) {
-            display.append(i).append("\t\t");
+    public String toFen() {
+        return Fen.toFen(currentPosition());
+    }
+
+    public PositionSnapshot snapshot() {
+        return PositionSnapshot.of(currentPosition());
+    }
+
+    // The position as the engine sees it, with the keys of the positions before it so that repetitions can be found.
+    BitBoard currentPosition() {
+        Colour sideToMove = getSideToMove();
+        BitBoard position = BitBoard.of(board, sideToMove);
+        int whiteMoves = whitePiecePlayer.getMoveCount();
+        int blackMoves = blackPiecePlayer.getMoveCount();
+        int plies = whiteMoves + blackMoves;
+        int enPassantSquare = getEnPassantSquare();
+
+        int lastIrreversiblePly = Math.max(plyOf(WHITE, whitePiecePlayer.getLastIrreversibleMoveIndex()),
+                plyOf(BLACK, blackPiecePlayer.getLastIrreversibleMoveIndex()));
+        position.setEnPassantSquare(enPassantSquare);
+        position.setHalfMoveClock(lastIrreversiblePly < 0 ? initialHalfMoveClock + plies : plies - 1 - lastIrreversiblePly);
+        position.setFullMoveNumber(initialFullMoveNumber + blackMoves);
+        position.setKeyHistory(getKeyHistory());
+        return position;
+    }
 
+    private long[] getKeyHistory() {
+        long[] first = (firstToMove == WHITE ? whitePiecePlayer : blackPiecePlayer).getPositionKeys();
+        long[] second = (firstToMove == WHITE ? blackPiecePlayer : whitePiecePlayer).getPositionKeys();
+        long[] keys = new long[first.length + second.length];
+        for (int ply = 0; ply < keys.length; ply++) {
+            keys[ply] = ply % 2 == 0 ? first[ply / 2] : second[ply / 2];
         }
-        return display.toString();
+        return keys;
+    }
+
+    // The square a pawn skipped with a double step on the move just played, or EMPTY when no pawn can take on it,
+    // so that the set keys and writes its position the same way BitBoard.makeMove does.
+    public int getEnPassantSquare() {
+        int square = getDoubleStepSquare();
+        return square != EMPTY && board.getBitBoard().canCaptureEnPassant(square, getSideToMove()) ? square : EMPTY;
+    }
+
+    private int getDoubleStepSquare() {
+        if (whitePiecePlayer.getMoveCount() + blackPiecePlayer.getMoveCount() == 0) return initialEnPassantSquare;
+        Piece piece = (getSideToMove() == WHITE ? blackPiecePlayer : whitePiecePlayer).getLastMovedPiece();
+        if (!(piece instanceof Pawn)) return EMPTY;
+        Floor from = piece.getLastMove().getPreviousFloor();
+        Floor to = piece.getLastMove().getCurrentFloor();
+        if (Math.abs(from.getRank() - to.getRank()) != 2) return EMPTY;
+        return square((from.getRank() + to.getRank()) / 2, to.getFile());
+    }
+
+    // The key of currentPosition, taken from the pieces the board's bit board already keys as they move rather than from a new position.
+    long positionKey() {
+        BitBoard bitBoard = board.getBitBoard();
+        long key = bitBoard.getKey() ^ Zobrist.castling(bitBoard.getCastlingRights()) ^ Zobrist.enPassant(bitBoard.getEnPassantSquare());
+        if (bitBoard.getSideToMove() != getSideToMove()) key ^= Zobrist.BLACK_TO_MOVE;
+        return key ^ Zobrist.castling(BitBoard.castlingRightsOf(board)) ^ Zobrist.enPassant(getEnPassantSquare());
+    }
+
+    public String getInitialFen() {
+        return initialFen;
+    }
+
+    // Both players' moves interleaved in the order they were played.
+    public int[] getMoveHistory() {
+        int[] first = (firstToMove == WHITE ? whitePiecePlayer : blackPiecePlayer).getMoveHistory();
+        int[] second = (firstToMove == WHITE ? blackPiecePlayer : whitePiecePlayer).getMoveHistory();
+        int[] history = new int[first.length + second.length];
+        for (int ply = 0; ply < history.length; ply++) {
+            history[ply] = ply % 2 == 0 ? first[ply / 2] : second[ply / 2];
+        }
+        return history;
+    }
+
+    private int plyOf(Colour colour, int moveIndex) {
+        if (moveIndex < 0) return -1;
+        return colour == firstToMove ? 2 * moveIndex : 2 * moveIndex + 1;
+    }
+
+    public String displayBoard(){
+        if (renderer == null) renderer = new BoardRenderer(board);
+        return renderer.render();
     }
 
     public Player getWhitePiecePlayer() {
@@ -211,8 +354,24 @@ public class Set {
         return blackPiecePlayer;
     }
 
+    public Colour getSideToMove() {
+        int whiteMoves = whitePiecePlayer.getMoveCount();
+        int blackMoves = blackPiecePlayer.getMoveCount();
+        if (whiteMoves == blackMoves) return firstToMove;
+        return whiteMoves > blackMoves ? BLACK : WHITE;
+    }
+
+    public Player getPlayerToMove() {
+        return getSideToMove() == WHITE ? whitePiecePlayer : blackPiecePlayer;
+    }
+
+    public GameState getGameState() {
+        if (evaluator == null) evaluator = new GameStateEvaluator();
+        return evaluator.evaluate(currentPosition());
+    }
+
     public boolean isGameOver(){
-        return whiteKing.isCheckMated() || blackKing.isCheckMated();
+        return getGameState().isOver();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,206 @@
+package game.components.board;
+
+import game.properties.Colour;
+
+import static game.components.board.BitBoard.bit;
+import static game.components.board.BitBoard.square;
+
+public final class Attacks {
+
+    private static final int NORTH = 0;
+    private static final int NORTH_EAST = 1;
+    private static final int EAST = 2;
+    private static final int NORTH_WEST = 3;
+    private static final int SOUTH = 4;
+    private static final int SOUTH_WEST = 5;
+    private static final int WEST = 6;
+    private static final int SOUTH_EAST = 7;
+
+    private static final int[][] DIRECTIONS = {
+            {1, 0}, {1, 1}, {0, 1}, {1, -1},
+            {-1, 0}, {-1, -1}, {0, -1}, {-1, 1}
+    };
+    private static final int[][] KNIGHT_JUMPS = {
+            {1, 2}, {2, 1}, {2, -1}, {1, -2},
+            {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+
+    private static final long[] KNIGHT = new long[64];
+    private static final long[] KING = new long[64];
+    private static final long[][] PAWN = new long[2][64];
+    private static final long[][] RAYS = new long[8][64];
+    private static final long[][] BETWEEN = new long[64][64];
+
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final long[][] ROOK_TABLE = new long[64][];
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final long[][] BISHOP_TABLE = new long[64][];
+
+    // Found once with a seeded random search; each one maps every blocker subset of its mask without harmful collisions.
+    private static final long[] ROOK_MAGICS = {
+            0x7080024000108620L, 0x0040200010004000L, 0x0100081020004500L, 0x3880048110000801L,
+            0x4200200200080410L, 0x2400900400082002L, 0x45000B000F860004L, 0x220004038040A116L,
+            0x010280002084400AL, 0x0026402004401000L, 0x0045002002110048L, 0x0043002300100009L,
+            0x004280801C002800L, 0x4001800401801200L, 0x0022000438A20001L, 0x408100120040A100L,
+            0x0160808000401020L, 0x0020004008205000L, 0x0000430010200300L, 0x4001818008005000L,
+            0x1D04008008008004L, 0x6002080110204004L, 0x2009040001081002L, 0x8094020020804401L,
+            0x00C00049800080A7L, 0x80015000C0002000L, 0xC000220200108040L, 0x00A8018480100108L,
+            0x0108000880800400L, 0x0A00040080020080L, 0x1A01080400104A31L, 0x000200A200011044L,
+            0x4080006001400040L, 0x240080400C802000L, 0x880500104100200AL, 0x0000080284801000L,
+            0x0900800800800401L, 0x5002018402001008L, 0x0000488104001002L, 0x8402048862000411L,
+            0x0000802040008000L, 0x2C20500020004000L, 0x001A004080120020L, 0x80800A0040220010L,
+            0x0204008008008004L, 0x1218020004008080L, 0x0140025118040050L, 0x0824030C40820024L,
+            0x0040220081005200L, 0x0040004421108300L, 0x4420041001208480L, 0x0862082010420200L,
+            0x0D02001861100E00L, 0x8126001008040200L, 0x0064110218D00400L, 0x0427000482284100L,
+            0x0000108040220102L, 0x0000804020160102L, 0x0000400812008022L, 0x0000050010002009L,
+            0x0102001108604402L, 0x1002000110844802L, 0x0401001200440781L, 0x0281000045802203L
+    };
+
+    private static final long[] BISHOP_MAGICS = {
+            0x0420420088048088L, 0x0020A242184102C0L, 0x4208084043861180L, 0x0054251201004000L,
+            0x0844050400005004L, 0x0515042044040004L, 0x4021010802404004L, 0x3000940488081800L,
+            0x0000C00401020208L, 0x01022011112A0884L, 0x0D80100440404000L, 0x0520044040800400L,
+            0x8444020210002040L, 0x8008028820180200L, 0x0180040A01300800L, 0x0000842208048480L,
+            0x0910004004083084L, 0x00081802B8010420L, 0x00140428004C0008L, 0x0008000682004610L,
+            0x0100820400E00200L, 0x000B000811089000L, 0x4812024401240200L, 0x820040103A080404L,
+            0x8024100422200120L, 0x001030B40C234604L, 0x0020480044002400L, 0x0040040085101020L,
+            0x0040840105802000L, 0x4210010000241101L, 0x1202040200410802L, 0x4040608000420802L,
+            0x0218048401512000L, 0xE008080200090202L, 0x8004060110180040L, 0x0000A00800150104L,
+            0x1C01020400020500L, 0x0001080A00002206L, 0x8012040860140204L, 0x010C004202044329L,
+            0x1084108288091031L, 0x4084046202002800L, 0x2001004232001002L, 0x2000104208000080L,
+            0x2108200414000040L, 0x0001200089010A81L, 0x3219A20492004400L, 0x0010148107010148L,
+            0x4402080402080080L, 0x4210844118600100L, 0x4800050401040410L, 0x0800006020880010L,
+            0x30080020020C80C0L, 0x02C446040806040CL, 0x0010021001021044L, 0x4002182801015202L,
+            0x0409820800A2080AL, 0x004000C608050808L, 0x0800008044040412L, 0x0410010280840408L,
+            0x1210A02012420200L, 0x8302400404084200L, 0x020090042840C400L, 0x0808100088004086L
+    };
+
+    static {
+        for (int rank = 1; rank <= 8; rank++) {
+            for (int file = 1; file <= 8; file++) {
+                int square = square(rank, file);
+                for (int[] jump : KNIGHT_JUMPS) {
+                    KNIGHT[square] |= maskOf(rank + jump[0], file + jump[1]);
+                }
+                for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                    int rankStep = DIRECTIONS[direction][0];
+                    int fileStep = DIRECTIONS[direction][1];
+                    KING[square] |= maskOf(rank + rankStep, file + fileStep);
+
+                    long ray = 0L;
+                    int rankCounter = rank + rankStep;
+                    int fileCounter = file + fileStep;
+                    while (isOnBoard(rankCounter, fileCounter)) {
+                        int target = square(rankCounter, fileCounter);
+                        BETWEEN[square][target] = ray;
+                        ray |= bit(target);
+                        rankCounter += rankStep;
+                        fileCounter += fileStep;
+                    }
+                    RAYS[direction][square] = ray;
+                }
+                PAWN[Colour.BLACK.ordinal()][square] = maskOf(rank + 1, file - 1) | maskOf(rank + 1, file + 1);
+                PAWN[Colour.WHITE.ordinal()][square] = maskOf(rank - 1, file - 1) | maskOf(rank - 1, file + 1);
+            }
+        }
+
+        for (int square = 0; square < 64; square++) {
+            ROOK_MASKS[square] = relevantOccupancy(square, true);
+            ROOK_SHIFTS[square] = 64 - Long.bitCount(ROOK_MASKS[square]);
+            ROOK_TABLE[square] = fillTable(square, true, ROOK_MASKS[square], ROOK_MAGICS[square], ROOK_SHIFTS[square]);
+            BISHOP_MASKS[square] = relevantOccupancy(square, false);
+            BISHOP_SHIFTS[square] = 64 - Long.bitCount(BISHOP_MASKS[square]);
+            BISHOP_TABLE[square] = fillTable(square, false, BISHOP_MASKS[square], BISHOP_MAGICS[square], BISHOP_SHIFTS[square]);
+        }
+    }
+
+    private Attacks() {
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING[square];
+    }
+
+    public static long pawnAttacks(Colour colour, int square) {
+        return PAWN[colour.ordinal()][square];
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long rookAttacks(int square, long occupancy) {
+        return ROOK_TABLE[square][(int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    public static long bishopAttacks(int square, long occupancy) {
+        return BISHOP_TABLE[square][(int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    private static long slidingAttacks(int square, long occupancy, boolean rook) {
+        if (rook) {
+            return positiveRay(NORTH, square, occupancy) | positiveRay(EAST, square, occupancy)
+                    | negativeRay(SOUTH, square, occupancy) | negativeRay(WEST, square, occupancy);
+        }
+        return positiveRay(NORTH_EAST, square, occupancy) | positiveRay(NORTH_WEST, square, occupancy)
+                | negativeRay(SOUTH_WEST, square, occupancy) | negativeRay(SOUTH_EAST, square, occupancy);
+    }
+
+    // A blocker on the last square of a ray never changes the attack set, so it is left out of the mask.
+    private static long relevantOccupancy(int square, boolean rook) {
+        long mask = 0L;
+        for (int direction = rook ? NORTH : NORTH_EAST; direction < RAYS.length; direction += 2) {
+            long ray = RAYS[direction][square];
+            if (ray == 0) continue;
+            long lastSquare = direction < SOUTH ? Long.highestOneBit(ray) : Long.lowestOneBit(ray);
+            mask |= ray & ~lastSquare;
+        }
+        return mask;
+    }
+
+    private static long[] fillTable(int square, boolean rook, long mask, long magic, int shift) {
+        long[] table = new long[1 << (64 - shift)];
+        long subset = 0L;
+        do {
+            table[(int) ((subset * magic) >>> shift)] = slidingAttacks(square, subset, rook);
+            subset = (subset - mask) & mask;
+        } while (subset != 0);
+        return table;
+    }
+
+    private static long positiveRay(int direction, int square, long occupancy) {
+        long attacks = RAYS[direction][square];
+        long blockers = attacks & occupancy;
+        if (blockers != 0) {
+            attacks ^= RAYS[direction][Long.numberOfTrailingZeros(blockers)];
+        }
+        return attacks;
+    }
+
+    private static long negativeRay(int direction, int square, long occupancy) {
+        long attacks = RAYS[direction][square];
+        long blockers = attacks & occupancy;
+        if (blockers != 0) {
+            attacks ^= RAYS[direction][63 - Long.numberOfLeadingZeros(blockers)];
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(int rank, int file) {
+        return rank >= 1 && rank <= 8 && file >= 1 && file <= 8;
+    }
+
+    private static long maskOf(int rank, int file) {
+        return isOnBoard(rank, file) ? bit(square(rank, file)) : 0L;
+    }
+}
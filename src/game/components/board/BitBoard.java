@@ -0,0 +1,490 @@
+package game.components.board;
+
+import game.engine.Moves;
+import game.pieces.Piece;
+import game.pieces.Rook;
+import game.pieces.king.King;
+import game.properties.Colour;
+import game.properties.PieceType;
+
+import java.util.Arrays;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+
+public class BitBoard {
+
+    public static final int EMPTY = -1;
+    public static final int NUMBER_OF_PIECES = 12;
+
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    // History grows by doubling, so a mostly idle game only pays for the plies it has played.
+    public static final int INITIAL_HISTORY = 32;
+
+    private static final Colour[] COLOURS = Colour.values();
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final int[] CASTLING_RIGHTS_KEPT = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_RIGHTS_KEPT, WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_RIGHTS_KEPT[square(8, 5)] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_RIGHTS_KEPT[square(8, 8)] &= ~WHITE_KING_SIDE;
+        CASTLING_RIGHTS_KEPT[square(8, 1)] &= ~WHITE_QUEEN_SIDE;
+        CASTLING_RIGHTS_KEPT[square(1, 5)] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_RIGHTS_KEPT[square(1, 8)] &= ~BLACK_KING_SIDE;
+        CASTLING_RIGHTS_KEPT[square(1, 1)] &= ~BLACK_QUEEN_SIDE;
+    }
+
+    private final long[] pieces = new long[NUMBER_OF_PIECES];
+    private final long[] occupancy = new long[COLOURS.length];
+    private final int[] mailbox = new int[64];
+    private Colour sideToMove = WHITE;
+    private int castlingRights;
+    private int enPassantSquare = EMPTY;
+    private long key;
+    private int middleGameScore;
+    private int endGameScore;
+    private int phase;
+    private int halfMoveClock;
+    private int fullMoveNumber = 1;
+
+    // Everything unmakeMove needs that the move itself does not carry: captured piece, castling rights, en passant square and half move clock.
+    private int[] history = new int[INITIAL_HISTORY];
+    private int[] historyMoves = new int[INITIAL_HISTORY];
+    private long[] historyKeys = new long[INITIAL_HISTORY];
+    private int ply;
+
+    public BitBoard() {
+        Arrays.fill(mailbox, EMPTY);
+    }
+
+    public static BitBoard of(Board board) {
+        BitBoard bitBoard = new BitBoard();
+        bitBoard.sync(board);
+        return bitBoard;
+    }
+
+    public static BitBoard of(Board board, Colour sideToMove) {
+        BitBoard bitBoard = of(board);
+        bitBoard.setSideToMove(sideToMove);
+        return bitBoard;
+    }
+
+    public void sync(Board board) {
+        clear();
+        for (Floor[] rank : board.getFloors()) {
+            for (Floor floor : rank) {
+                Piece occupant = floor.getCurrentOccupant();
+                if (occupant != null && !occupant.isCaptured()) {
+                    put(pieceIndex(occupant), square(floor));
+                }
+            }
+        }
+        setCastlingRights(castlingRightsOf(board));
+    }
+
+    public static int castlingRightsOf(Board board) {
+        return castlingRightsOf(board, WHITE) | castlingRightsOf(board, BLACK);
+    }
+
+    private static int castlingRightsOf(Board board, Colour colour) {
+        int homeRank = homeRankOf(colour);
+        Piece king = board.getFloor(homeRank, 5).getCurrentOccupant();
+        if (!(king instanceof King) || king.getColour() != colour || ((King) king).hasMadeFirstMove()) return 0;
+
+        int rights = 0;
+        if (isUnmovedRook(board.getFloor(homeRank, 8).getCurrentOccupant(), colour))
+            rights |= colour == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        if (isUnmovedRook(board.getFloor(homeRank, 1).getCurrentOccupant(), colour))
+            rights |= colour == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        return rights;
+    }
+
+    private static boolean isUnmovedRook(Piece piece, Colour colour) {
+        return piece instanceof Rook && piece.getColour() == colour && !((Rook) piece).hasMadeFirstMove();
+    }
+
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancy, 0L);
+        Arrays.fill(mailbox, EMPTY);
+        castlingRights = 0;
+        enPassantSquare = EMPTY;
+        key = sideToMove == BLACK ? Zobrist.BLACK_TO_MOVE : 0L;
+        middleGameScore = 0;
+        endGameScore = 0;
+        phase = 0;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+        ply = 0;
+    }
+
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        System.arraycopy(other.occupancy, 0, occupancy, 0, occupancy.length);
+        System.arraycopy(other.mailbox, 0, mailbox, 0, mailbox.length);
+        sideToMove = other.sideToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        key = other.key;
+        middleGameScore = other.middleGameScore;
+        endGameScore = other.endGameScore;
+        phase = other.phase;
+        halfMoveClock = other.halfMoveClock;
+        fullMoveNumber = other.fullMoveNumber;
+        ply = other.ply;
+        if (history.length < other.history.length) {
+            history = new int[other.history.length];
+            historyMoves = new int[other.history.length];
+            historyKeys = new long[other.history.length];
+        }
+        System.arraycopy(other.history, 0, history, 0, ply);
+        System.arraycopy(other.historyMoves, 0, historyMoves, 0, ply);
+        System.arraycopy(other.historyKeys, 0, historyKeys, 0, ply);
+    }
+
+    // Keys of the positions the game went through before this one, oldest first, so that repeating them is seen as a repetition.
+    // Those positions were not reached through makeMove here, so they can not be unmade.
+    public void setKeyHistory(long[] keys) {
+        if (historyKeys.length <= keys.length) {
+            int capacity = Math.max(INITIAL_HISTORY, Integer.highestOneBit(keys.length) * 2);
+            history = new int[capacity];
+            historyMoves = new int[capacity];
+            historyKeys = new long[capacity];
+        }
+        System.arraycopy(keys, 0, historyKeys, 0, keys.length);
+        ply = keys.length;
+    }
+
+    public void makeMove(int move) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int flag = Moves.flag(move);
+        int piece = mailbox[from];
+        int capturedSquare = flag == Moves.EN_PASSANT ? square(rankOf(from), fileOf(to)) : to;
+        int captured = mailbox[capturedSquare];
+
+        if (ply == history.length) {
+            history = Arrays.copyOf(history, ply * 2);
+            historyMoves = Arrays.copyOf(historyMoves, ply * 2);
+            historyKeys = Arrays.copyOf(historyKeys, ply * 2);
+        }
+        history[ply] = (captured + 1) | castlingRights << 4 | (enPassantSquare + 1) << 8 | halfMoveClock << 16;
+        historyKeys[ply] = key;
+        historyMoves[ply++] = move;
+
+        remove(capturedSquare);
+        remove(from);
+        put(Moves.isPromotion(move) ? pieceIndex(sideToMove, Moves.promotion(move)) : piece, to);
+
+        if (flag == Moves.CASTLE) {
+            int rank = rankOf(to);
+            boolean kingSide = fileOf(to) == 7;
+            int rookFrom = square(rank, kingSide ? 8 : 1);
+            int rook = mailbox[rookFrom];
+            remove(rookFrom);
+            put(rook, square(rank, kingSide ? 6 : 4));
+        }
+
+        setCastlingRights(castlingRights & CASTLING_RIGHTS_KEPT[from] & CASTLING_RIGHTS_KEPT[to]);
+        // The square is only worth a key of its own when an enemy pawn is there to capture on it.
+        int skipped = (from + to) >>> 1;
+        setEnPassantSquare(flag == Moves.DOUBLE_PUSH && canCaptureEnPassant(skipped, opposite(sideToMove)) ? skipped : EMPTY);
+        halfMoveClock = captured != EMPTY || typeOf(piece) == PieceType.PAWN ? 0 : halfMoveClock + 1;
+        if (sideToMove == BLACK) fullMoveNumber++;
+        setSideToMove(opposite(sideToMove));
+    }
+
+    public void unmakeMove() {
+        int move = historyMoves[--ply];
+        int undo = history[ply];
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int flag = Moves.flag(move);
+
+        sideToMove = opposite(sideToMove);
+        castlingRights = (undo >>> 4) & 0xF;
+        enPassantSquare = ((undo >>> 8) & 0x7F) - 1;
+        halfMoveClock = undo >>> 16;
+        if (sideToMove == BLACK) fullMoveNumber--;
+
+        if (flag == Moves.CASTLE) {
+            int rank = rankOf(to);
+            boolean kingSide = fileOf(to) == 7;
+            int rookTo = square(rank, kingSide ? 6 : 4);
+            int rook = mailbox[rookTo];
+            remove(rookTo);
+            put(rook, square(rank, kingSide ? 8 : 1));
+        }
+
+        int piece = Moves.isPromotion(move) ? pieceIndex(sideToMove, PieceType.PAWN) : mailbox[to];
+        remove(to);
+        put(piece, from);
+
+        int captured = (undo & 0xF) - 1;
+        if (captured != EMPTY) {
+            put(captured, flag == Moves.EN_PASSANT ? square(rankOf(from), fileOf(to)) : to);
+        }
+        key = historyKeys[ply];
+    }
+
+    public boolean isRepetition() {
+        for (int index = ply - 2; index >= 0; index -= 2) {
+            if (historyKeys[index] == key) return true;
+        }
+        return false;
+    }
+
+    public int repetitionCount() {
+        int count = 0;
+        for (int index = ply - 2; index >= 0; index -= 2) {
+            if (historyKeys[index] == key) count++;
+        }
+        return count;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public void put(int piece, int square) {
+        long mask = bit(square);
+        pieces[piece] |= mask;
+        occupancy[piece / 6] |= mask;
+        mailbox[square] = piece;
+        key ^= Zobrist.piece(piece, square);
+        middleGameScore += PieceSquareTables.middleGame(piece, square);
+        endGameScore += PieceSquareTables.endGame(piece, square);
+        phase += PieceSquareTables.phase(piece);
+    }
+
+    public void remove(int square) {
+        int piece = mailbox[square];
+        if (piece == EMPTY) return;
+        long mask = ~bit(square);
+        pieces[piece] &= mask;
+        occupancy[piece / 6] &= mask;
+        mailbox[square] = EMPTY;
+        key ^= Zobrist.piece(piece, square);
+        middleGameScore -= PieceSquareTables.middleGame(piece, square);
+        endGameScore -= PieceSquareTables.endGame(piece, square);
+        phase -= PieceSquareTables.phase(piece);
+    }
+
+    void update(int square, Piece occupant) {
+        remove(square);
+        if (occupant != null) put(pieceIndex(occupant), square);
+    }
+
+    public int pieceAt(int square) {
+        return mailbox[square];
+    }
+
+    public boolean isOccupied(int square) {
+        return mailbox[square] != EMPTY;
+    }
+
+    public long getPieces(int piece) {
+        return pieces[piece];
+    }
+
+    public long getPieces(Colour colour, PieceType type) {
+        return pieces[pieceIndex(colour, type)];
+    }
+
+    public long getOccupancy(Colour colour) {
+        return occupancy[colour.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return occupancy[0] | occupancy[1];
+    }
+
+    public Colour getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(Colour sideToMove) {
+        if (this.sideToMove != sideToMove) key ^= Zobrist.BLACK_TO_MOVE;
+        this.sideToMove = sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public void setCastlingRights(int castlingRights) {
+        key ^= Zobrist.castling(this.castlingRights) ^ Zobrist.castling(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public void setEnPassantSquare(int enPassantSquare) {
+        key ^= Zobrist.enPassant(this.enPassantSquare) ^ Zobrist.enPassant(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public void setHalfMoveClock(int halfMoveClock) {
+        this.halfMoveClock = halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    public void setFullMoveNumber(int fullMoveNumber) {
+        this.fullMoveNumber = fullMoveNumber;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    // Material plus piece-square score from white's side, kept up to date by put and remove.
+    public int getMiddleGameScore() {
+        return middleGameScore;
+    }
+
+    public int getEndGameScore() {
+        return endGameScore;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public int kingSquare(Colour colour) {
+        long king = pieces[pieceIndex(colour, PieceType.KING)];
+        return king == 0 ? EMPTY : Long.numberOfTrailingZeros(king);
+    }
+
+    public boolean isPathClear(int from, int to) {
+        return (Attacks.between(from, to) & getOccupancy()) == 0;
+    }
+
+    public long attackersOf(int square, Colour attacker) {
+        int side = attacker.ordinal() * 6;
+        long occupied = getOccupancy();
+        long queens = pieces[side + PieceType.QUEEN.ordinal()];
+        return (Attacks.pawnAttacks(opposite(attacker), square) & pieces[side + PieceType.PAWN.ordinal()])
+                | (Attacks.knightAttacks(square) & pieces[side + PieceType.KNIGHT.ordinal()])
+                | (Attacks.kingAttacks(square) & pieces[side + PieceType.KING.ordinal()])
+                | (Attacks.bishopAttacks(square, occupied) & (pieces[side + PieceType.BISHOP.ordinal()] | queens))
+                | (Attacks.rookAttacks(square, occupied) & (pieces[side + PieceType.ROOK.ordinal()] | queens));
+    }
+
+    public boolean canCaptureEnPassant(int square, Colour capturer) {
+        return (Attacks.pawnAttacks(opposite(capturer), square) & pieces[pieceIndex(capturer, PieceType.PAWN)]) != 0;
+    }
+
+    public boolean isAttacked(int square, Colour attacker) {
+        return attackersOf(square, attacker) != 0;
+    }
+
+    public long attackedSquares(Colour attacker) {
+        int side = attacker.ordinal() * 6;
+        long occupied = getOccupancy();
+        long attacks = 0L;
+        long pawns = pieces[side + PieceType.PAWN.ordinal()];
+        while (pawns != 0) {
+            attacks |= Attacks.pawnAttacks(attacker, Long.numberOfTrailingZeros(pawns));
+            pawns &= pawns - 1;
+        }
+        long knights = pieces[side + PieceType.KNIGHT.ordinal()];
+        while (knights != 0) {
+            attacks |= Attacks.knightAttacks(Long.numberOfTrailingZeros(knights));
+            knights &= knights - 1;
+        }
+        long queens = pieces[side + PieceType.QUEEN.ordinal()];
+        long diagonals = pieces[side + PieceType.BISHOP.ordinal()] | queens;
+        while (diagonals != 0) {
+            attacks |= Attacks.bishopAttacks(Long.numberOfTrailingZeros(diagonals), occupied);
+            diagonals &= diagonals - 1;
+        }
+        long straights = pieces[side + PieceType.ROOK.ordinal()] | queens;
+        while (straights != 0) {
+            attacks |= Attacks.rookAttacks(Long.numberOfTrailingZeros(straights), occupied);
+            straights &= straights - 1;
+        }
+        long king = pieces[side + PieceType.KING.ordinal()];
+        if (king != 0) attacks |= Attacks.kingAttacks(Long.numberOfTrailingZeros(king));
+        return attacks;
+    }
+
+    public long pinnedPieces(Colour colour) {
+        int king = kingSquare(colour);
+        if (king == EMPTY) return 0L;
+        int enemy = opposite(colour).ordinal() * 6;
+        long queens = pieces[enemy + PieceType.QUEEN.ordinal()];
+        long snipers = (Attacks.rookAttacks(king, 0L) & (pieces[enemy + PieceType.ROOK.ordinal()] | queens))
+                | (Attacks.bishopAttacks(king, 0L) & (pieces[enemy + PieceType.BISHOP.ordinal()] | queens));
+        long occupied = getOccupancy();
+        long pinned = 0L;
+        while (snipers != 0) {
+            long blockers = Attacks.between(king, Long.numberOfTrailingZeros(snipers)) & occupied;
+            if (Long.bitCount(blockers) == 1) pinned |= blockers & occupancy[colour.ordinal()];
+            snipers &= snipers - 1;
+        }
+        return pinned;
+    }
+
+    public boolean isInCheck(Colour colour) {
+        int king = kingSquare(colour);
+        return king != EMPTY && isAttacked(king, opposite(colour));
+    }
+
+    public static int square(int rank, int file) {
+        return (rank - 1) * 8 + (file - 1);
+    }
+
+    public static int square(Floor floor) {
+        return square(floor.getRank(), floor.getFile());
+    }
+
+    public static int rankOf(int square) {
+        return (square >>> 3) + 1;
+    }
+
+    public static int fileOf(int square) {
+        return (square & 7) + 1;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public static int pieceIndex(Colour colour, PieceType type) {
+        return colour.ordinal() * 6 + type.ordinal();
+    }
+
+    public static int pieceIndex(Piece piece) {
+        return pieceIndex(piece.getColour(), piece.getType());
+    }
+
+    public static Colour colourOf(int piece) {
+        return COLOURS[piece / 6];
+    }
+
+    public static PieceType typeOf(int piece) {
+        return TYPES[piece % 6];
+    }
+
+    public static int homeRankOf(Colour colour) {
+        return colour == WHITE ? 8 : 1;
+    }
+
+    public static Colour opposite(Colour colour) {
+        return colour == WHITE ? BLACK : WHITE;
+    }
+}
@@ -1,38 +1,148 @@
 package game.components.board;
 
-import java.util.Arrays;
+import game.pieces.Pawn;
+import game.pieces.Piece;
+import game.pieces.PiecePool;
+import game.pieces.Rook;
+import game.pieces.king.King;
+
+import java.util.ArrayDeque;
 
 public class Board {
+    private static final int POOL_CAPACITY = 16;
+    private static final ThreadLocal<ArrayDeque<Board>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
     private Floor[][] floors;
+    private final BitBoard bitBoard;
+    // A copy only fills its floors from the bit board when they are first asked for.
+    private boolean hasFloorsFilled = true;
+    private long movedPieces;
 
     public Board(int numberOfRows, int numberOfColumns) {
         floors = new Floor[numberOfRows][numberOfColumns];
+        bitBoard = new BitBoard();
         for (int rank = 1; rank <= numberOfRows; rank++) {
             for (int file = 1; file <= numberOfColumns; file++) {
-                floors[rank - 1][file - 1] = new Floor(rank, file);
+                boolean onBitBoard = rank <= 8 && file <= 8;
+                floors[rank - 1][file - 1] = new Floor(rank, file, onBitBoard ? bitBoard : null);
+            }
+        }
+    }
+
+    // A cleared 8 by 8 board, reused from this thread's pool when one has been released.
+    public static Board obtain() {
+        Board board = POOL.get().poll();
+        return board != null ? board : new Board(8, 8);
+    }
+
+    // Copies in constant time: only the bit board is copied, and floors and pieces are filled in on first use.
+    public Board copy() {
+        Board copy = obtain();
+        copy.bitBoard.copyFrom(bitBoard);
+        copy.movedPieces = movedPieces();
+        copy.hasFloorsFilled = false;
+        return copy;
+    }
+
+    // Hands the floors and the pieces on them back to this thread's pools. The board must not be used afterwards.
+    // Pieces that did not come from the pool, such as a set's own pieces, are only taken off the board.
+    public void release() {
+        if (hasFloorsFilled) {
+            for (Floor[] rank : floors) {
+                for (Floor floor : rank) {
+                    Piece occupant = floor.getCurrentOccupant();
+                    if (occupant == null) continue;
+                    floor.setOccupant(null);
+                    floor.setOccupyStatus(false);
+                    if (!occupant.isCaptured()) PiecePool.release(occupant);
+                }
+            }
+        }
+        bitBoard.clear();
+        hasFloorsFilled = true;
+        movedPieces = 0;
+        ArrayDeque<Board> pool = POOL.get();
+        if (pool.size() < POOL_CAPACITY && floors.length == 8 && floors[0].length == 8) pool.push(this);
+    }
+
+    private long movedPieces() {
+        if (!hasFloorsFilled) return movedPieces;
+        long moved = 0;
+        long occupied = bitBoard.getOccupancy();
+        while (occupied != 0) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+            Piece piece = floors[BitBoard.rankOf(square) - 1][BitBoard.fileOf(square) - 1].getCurrentOccupant();
+            if ((piece instanceof Pawn && ((Pawn) piece).hasMadeFirstMove())
+                    || (piece instanceof Rook && ((Rook) piece).hasMadeFirstMove())
+                    || (piece instanceof King && ((King) piece).hasMadeFirstMove())) {
+                moved |= BitBoard.bit(square);
             }
         }
+        return moved;
+    }
+
+    private void fillFloors() {
+        hasFloorsFilled = true;
+        long occupied = bitBoard.getOccupancy();
+        while (occupied != 0) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+            Piece piece = PiecePool.obtain(bitBoard.pieceAt(square), floors[BitBoard.rankOf(square) - 1][BitBoard.fileOf(square) - 1]);
+            if ((movedPieces & BitBoard.bit(square)) == 0) continue;
+            if (piece instanceof Pawn) ((Pawn) piece).setHasMadeFirstMove(true);
+            else if (piece instanceof Rook) ((Rook) piece).setHasMadeFirstMove(true);
+            else if (piece instanceof King) ((King) piece).setHasMadeFirstMove(true);
+        }
     }
 
     public Floor[][] getFloors(){
+        if (!hasFloorsFilled) fillFloors();
         return floors;
     }
 
     public Floor getFloor(int rank, int file) {
+        if (!hasFloorsFilled) fillFloors();
         return floors[rank - 1][file - 1];
     }
 
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    public long getZobristKey() {
+        return bitBoard.getKey() ^ Zobrist.castling(BitBoard.castlingRightsOf(this));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Board other = (Board) o;
+        if (floors.length != other.floors.length || floors[0].length != other.floors[0].length) return false;
+        for (int piece = 0; piece < BitBoard.NUMBER_OF_PIECES; piece++) {
+            if (bitBoard.getPieces(piece) != other.bitBoard.getPieces(piece)) return false;
+        }
+        return BitBoard.castlingRightsOf(this) == BitBoard.castlingRightsOf(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(getZobristKey());
+    }
+
 
     @Override
     public String toString() {
-        String board = "";
+        StringBuilder board = new StringBuilder();
+        if (!hasFloorsFilled) fillFloors();
 
         for (int i = 0; i < floors.length; i++) {
             for (int j = 0; j < floors[i].length; j++) {
-                board += floors[i][j].getCurrentOccupant() + "\t";
-                if(j == 7) board += "\n";
+                board.append(floors[i][j].getCurrentOccupant()).append('\t');
+                if(j == 7) board.append('\n');
             }
         }
-        return board;
+        return board.toString();
     }
 }
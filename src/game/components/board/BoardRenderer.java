@@ -0,0 +1,126 @@
+package game.components.board;
+
+import game.pieces.Piece;
+
+import java.util.Arrays;
+
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.NUMBER_OF_PIECES;
+import static game.components.board.BitBoard.square;
+
+// Renders an 8 by 8 board for display. Every rank is kept as text and only redrawn when a piece on it has changed since the last render,
+// and the output buffer is reused, so a turn that moves one piece redraws at most two ranks.
+public class BoardRenderer {
+
+    public enum Style {
+        // The same layout as Set.displayBoard.
+        TEXT,
+        // FEN piece placement, ranks separated by slashes.
+        COMPACT,
+        // Piece glyphs on coloured squares for terminals that understand ANSI escapes.
+        ANSI
+    }
+
+    private static final int SIZE = 8;
+    private static final String EMPTY_SQUARE = "--";
+    private static final String FOOTER = "________".repeat(SIZE) + "\n\t" + "1\t\t2\t\t3\t\t4\t\t5\t\t6\t\t7\t\t8\t\t";
+    private static final char[] LETTERS = {'p', 'n', 'b', 'r', 'q', 'k', 'P', 'N', 'B', 'R', 'Q', 'K'};
+    private static final String LIGHT_SQUARE = "\u001B[30;47m";
+    private static final String DARK_SQUARE = "\u001B[30;46m";
+    private static final String RESET = "\u001B[0m";
+    private static final String ANSI_FOOTER = "  " + " 1  2  3  4  5  6  7  8 ";
+
+    private final Board board;
+    private final Style style;
+    private final String[] glyphs = new String[NUMBER_OF_PIECES];
+    private final int[] renderedPieces = new int[SIZE * SIZE];
+    private final String[] ranks = new String[SIZE];
+    private final StringBuilder rank = new StringBuilder();
+    private final StringBuilder output = new StringBuilder();
+    private int ranksRendered;
+
+    public BoardRenderer(Board board) {
+        this(board, Style.TEXT);
+    }
+
+    public BoardRenderer(Board board, Style style) {
+        this.board = board;
+        this.style = style;
+        Arrays.fill(renderedPieces, Integer.MIN_VALUE);
+    }
+
+    public String render() {
+        BitBoard bitBoard = board.getBitBoard();
+        output.setLength(0);
+        for (int rankNumber = 1; rankNumber <= SIZE; rankNumber++) {
+            if (hasChanged(bitBoard, rankNumber)) ranks[rankNumber - 1] = renderRank(bitBoard, rankNumber);
+            if (style == Style.COMPACT && rankNumber > 1) output.append('/');
+            output.append(ranks[rankNumber - 1]);
+        }
+        if (style == Style.TEXT) output.append(FOOTER);
+        else if (style == Style.ANSI) output.append(ANSI_FOOTER);
+        return output.toString();
+    }
+
+    // How many ranks have been drawn from scratch since this renderer was made.
+    public int getRanksRendered() {
+        return ranksRendered;
+    }
+
+    private boolean hasChanged(BitBoard bitBoard, int rankNumber) {
+        boolean hasChanged = false;
+        for (int file = 1; file <= SIZE; file++) {
+            int square = square(rankNumber, file);
+            int piece = bitBoard.pieceAt(square);
+            if (renderedPieces[square] != piece) {
+                renderedPieces[square] = piece;
+                hasChanged = true;
+            }
+        }
+        return hasChanged;
+    }
+
+    private String renderRank(BitBoard bitBoard, int rankNumber) {
+        ranksRendered++;
+        rank.setLength(0);
+        if (style == Style.COMPACT) {
+            int emptySquares = 0;
+            for (int file = 1; file <= SIZE; file++) {
+                int piece = bitBoard.pieceAt(square(rankNumber, file));
+                if (piece == EMPTY) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) rank.append(emptySquares);
+                emptySquares = 0;
+                rank.append(LETTERS[piece]);
+            }
+            if (emptySquares > 0) rank.append(emptySquares);
+            return rank.toString();
+        }
+
+        rank.append(rankNumber).append(style == Style.TEXT ? "| " : " ");
+        for (int file = 1; file <= SIZE; file++) {
+            int piece = bitBoard.pieceAt(square(rankNumber, file));
+            if (style == Style.TEXT) {
+                rank.append(piece == EMPTY ? EMPTY_SQUARE : glyph(piece, rankNumber, file));
+                if (file != SIZE) rank.append("\t\t");
+            } else {
+                rank.append((rankNumber + file) % 2 == 0 ? LIGHT_SQUARE : DARK_SQUARE)
+                        .append(' ').append(piece == EMPTY ? " " : glyph(piece, rankNumber, file)).append(' ');
+            }
+        }
+        if (style == Style.ANSI) rank.append(RESET);
+        return rank.append('\n').toString();
+    }
+
+    // Glyphs come from the pieces themselves, asked once per kind of piece.
+    private String glyph(int piece, int rankNumber, int file) {
+        if (glyphs[piece] == null) {
+            Piece occupant = board.getFloor(rankNumber, file).getCurrentOccupant();
+            if (occupant == null || BitBoard.pieceIndex(occupant) != piece) return String.valueOf(LETTERS[piece]);
+            glyphs[piece] = occupant.getPseudoName();
+        }
+        return glyphs[piece];
+    }
+}
@@ -8,22 +8,29 @@ public class Floor {
 
     private final int file;
     private int rank;
-    private char[] files = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h'};
+    private static final char[] FILES = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h'};
     private boolean isOccupied;
     private Piece currentOccupant;
+    private final BitBoard bitBoard;
 
     public Floor(Position position) {
         rank = position.get_Y_coordinate();
         file = position.get_X_coordinate();
+        bitBoard = null;
     }
     public Floor(int rank, int file){
+        this(rank, file, null);
+    }
+
+    Floor(int rank, int file, BitBoard bitBoard) {
         this.rank = rank;
         this.file = file;
+        this.bitBoard = bitBoard;
     }
 
     @Override
     public String toString() {
-        return "" + files[getFile() - 1] + rank;
+        return "" + FILES[getFile() - 1] + rank;
     }
 
     public int getFile() {
@@ -37,6 +44,11 @@ public class Floor {
         return file == floor.file && rank == floor.rank;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * rank + file;
+    }
+
     public boolean isOccupied() {
         return isOccupied;
     }
@@ -55,5 +67,6 @@ public class Floor {
 
     public void setOccupant(Piece piece) {
         currentOccupant = piece;
+        if (bitBoard != null) bitBoard.update(BitBoard.square(this), piece);
     }
 }
@@ -0,0 +1,133 @@
+package game.components.board;
+
+import game.notation.Fen;
+import game.properties.Colour;
+
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.NUMBER_OF_PIECES;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+
+// Immutable, so a snapshot can be cached or handed to another thread without copying. Squares take four bits each, holding piece + 1.
+public final class PositionSnapshot {
+
+    private final long squares0;
+    private final long squares1;
+    private final long squares2;
+    private final long squares3;
+    private final long key;
+    // Side to move in bit 0, castling rights in bits 1 to 4, en passant square + 1 from bit 5.
+    private final int state;
+    private final int halfMoveClock;
+    private final int fullMoveNumber;
+
+    private PositionSnapshot(long[] squares, long key, int state, int halfMoveClock, int fullMoveNumber) {
+        squares0 = squares[0];
+        squares1 = squares[1];
+        squares2 = squares[2];
+        squares3 = squares[3];
+        this.key = key;
+        this.state = state;
+        this.halfMoveClock = halfMoveClock;
+        this.fullMoveNumber = fullMoveNumber;
+    }
+
+    public static PositionSnapshot of(BitBoard position) {
+        long[] squares = new long[4];
+        for (int piece = 0; piece < NUMBER_OF_PIECES; piece++) {
+            long pieces = position.getPieces(piece);
+            while (pieces != 0) {
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+                squares[square >>> 4] |= (long) (piece + 1) << ((square & 15) << 2);
+            }
+        }
+        int state = (position.getSideToMove() == BLACK ? 1 : 0)
+                | position.getCastlingRights() << 1
+                | (position.getEnPassantSquare() + 1) << 5;
+        return new PositionSnapshot(squares, position.getKey(), state, position.getHalfMoveClock(), position.getFullMoveNumber());
+    }
+
+    public static PositionSnapshot of(Board board, Colour sideToMove) {
+        return of(BitBoard.of(board, sideToMove));
+    }
+
+    public int pieceAt(int square) {
+        long squares = switch (square >>> 4) {
+            case 0 -> squares0;
+            case 1 -> squares1;
+            case 2 -> squares2;
+            default -> squares3;
+        };
+        return (int) ((squares >>> ((square & 15) << 2)) & 0xF) - 1;
+    }
+
+    public void restoreInto(BitBoard position) {
+        position.clear();
+        for (int square = 0; square < 64; square++) {
+            int piece = pieceAt(square);
+            if (piece != EMPTY) position.put(piece, square);
+        }
+        position.setSideToMove(getSideToMove());
+        position.setCastlingRights(getCastlingRights());
+        position.setEnPassantSquare(getEnPassantSquare());
+        position.setHalfMoveClock(halfMoveClock);
+        position.setFullMoveNumber(fullMoveNumber);
+    }
+
+    public BitBoard toBitBoard() {
+        BitBoard position = new BitBoard();
+        restoreInto(position);
+        return position;
+    }
+
+    public Board toBoard() {
+        Board board = new Board(8, 8);
+        Fen.place(toBitBoard(), board);
+        return board;
+    }
+
+    public Colour getSideToMove() {
+        return (state & 1) == 1 ? BLACK : WHITE;
+    }
+
+    public int getCastlingRights() {
+        return (state >>> 1) & 0xF;
+    }
+
+    public int getEnPassantSquare() {
+        return (state >>> 5) - 1;
+    }
+
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PositionSnapshot other = (PositionSnapshot) o;
+        return squares0 == other.squares0 && squares1 == other.squares1 && squares2 == other.squares2
+                && squares3 == other.squares3 && state == other.state
+                && halfMoveClock == other.halfMoveClock && fullMoveNumber == other.fullMoveNumber;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(key);
+    }
+
+    @Override
+    public String toString() {
+        return Fen.toFen(toBitBoard());
+    }
+}
@@ -0,0 +1,49 @@
+package game.components.board;
+
+import java.util.SplittableRandom;
+
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.NUMBER_OF_PIECES;
+import static game.components.board.BitBoard.fileOf;
+
+public final class Zobrist {
+
+    // Fixed seed so that keys stay the same across runs and can be stored or compared between games.
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final long[][] PIECES = new long[NUMBER_OF_PIECES][64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILES = new long[8];
+    public static final long BLACK_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] squares : PIECES) {
+            for (int square = 0; square < squares.length; square++) {
+                squares[square] = random.nextLong();
+            }
+        }
+        for (int rights = 1; rights < CASTLING.length; rights++) {
+            CASTLING[rights] = random.nextLong();
+        }
+        for (int file = 0; file < EN_PASSANT_FILES.length; file++) {
+            EN_PASSANT_FILES[file] = random.nextLong();
+        }
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(int piece, int square) {
+        return PIECES[piece][square];
+    }
+
+    public static long castling(int castlingRights) {
+        return CASTLING[castlingRights];
+    }
+
+    public static long enPassant(int square) {
+        return square == EMPTY ? 0L : EN_PASSANT_FILES[fileOf(square) - 1];
+    }
+}
@@ -0,0 +1,22 @@
+package game.engine;
+
+import game.components.board.BitBoard;
+import game.components.board.PieceSquareTables;
+
+import static game.properties.Colour.WHITE;
+
+public final class Evaluation {
+
+    public static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private Evaluation() {
+    }
+
+    // Blends the middle game and end game scores by how much non-pawn material is left; promotions can push the phase past its maximum.
+    public static int evaluate(BitBoard position) {
+        int phase = Math.min(position.getPhase(), PieceSquareTables.MAX_PHASE);
+        int score = (position.getMiddleGameScore() * phase
+                + position.getEndGameScore() * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return position.getSideToMove() == WHITE ? score : -score;
+    }
+}
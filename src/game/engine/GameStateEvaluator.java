@@ -0,0 +1,45 @@
+package game.engine;
+
+import game.components.board.BitBoard;
+import game.properties.Colour;
+import game.properties.GameState;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+
+public class GameStateEvaluator {
+
+    private static final long LIGHT_SQUARES = 0x55AA55AA55AA55AAL;
+
+    private final BitBoard position = new BitBoard();
+    private final MoveList moves = new MoveList();
+
+    public GameState evaluate(BitBoard current, Colour sideToMove) {
+        position.copyFrom(current);
+        position.setSideToMove(sideToMove);
+        return evaluate(position);
+    }
+
+    public GameState evaluate(BitBoard position) {
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        if (!MoveGenerator.hasLegalMove(position, moves)) {
+            return inCheck ? GameState.CHECKMATE : GameState.STALEMATE;
+        }
+        if (hasInsufficientMaterial(position)) return GameState.INSUFFICIENT_MATERIAL;
+        return inCheck ? GameState.CHECK : GameState.IN_PROGRESS;
+    }
+
+    public static boolean hasInsufficientMaterial(BitBoard position) {
+        long pawnsAndMajors = position.getPieces(BLACK, PAWN) | position.getPieces(WHITE, PAWN)
+                | position.getPieces(BLACK, ROOK) | position.getPieces(WHITE, ROOK)
+                | position.getPieces(BLACK, QUEEN) | position.getPieces(WHITE, QUEEN);
+        if (pawnsAndMajors != 0) return false;
+
+        long knights = position.getPieces(BLACK, KNIGHT) | position.getPieces(WHITE, KNIGHT);
+        long bishops = position.getPieces(BLACK, BISHOP) | position.getPieces(WHITE, BISHOP);
+        int minorPieces = Long.bitCount(knights | bishops);
+        if (minorPieces <= 1) return true;
+        return knights == 0 && ((bishops & LIGHT_SQUARES) == 0 || (bishops & ~LIGHT_SQUARES) == 0);
+    }
+}
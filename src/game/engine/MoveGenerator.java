@@ -0,0 +1,197 @@
+package game.engine;
+
+import game.components.board.Attacks;
+import game.components.board.BitBoard;
+import game.properties.Colour;
+import game.properties.PieceType;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+
+public final class MoveGenerator {
+
+    private static final PieceType[] PROMOTIONS = {QUEEN, ROOK, BISHOP, KNIGHT};
+
+    private MoveGenerator() {
+    }
+
+    public static void generateLegalMoves(BitBoard position, MoveList moves) {
+        generatePseudoLegalMoves(position, moves);
+        int legalMoves = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (isLegal(position, move)) moves.set(legalMoves++, move);
+        }
+        moves.truncate(legalMoves);
+    }
+
+    // Captures and promotions only, for the quiescence search.
+    public static void generateLegalCaptures(BitBoard position, MoveList moves) {
+        generate(position, moves, true);
+        int legalMoves = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (isLegal(position, move)) moves.set(legalMoves++, move);
+        }
+        moves.truncate(legalMoves);
+    }
+
+    public static void generatePseudoLegalMoves(BitBoard position, MoveList moves) {
+        generate(position, moves, false);
+    }
+
+    private static void generate(BitBoard position, MoveList moves, boolean capturesOnly) {
+        moves.clear();
+        Colour us = position.getSideToMove();
+        long own = position.getOccupancy(us);
+        long enemy = position.getOccupancy(opposite(us));
+        long occupied = own | enemy;
+        long targets = capturesOnly ? enemy : ~own;
+
+        generatePawnMoves(position, moves, us, enemy, occupied, capturesOnly);
+
+        long knights = position.getPieces(us, KNIGHT);
+        while (knights != 0) {
+            int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            addMoves(moves, from, Attacks.knightAttacks(from) & targets, enemy);
+        }
+
+        long bishops = position.getPieces(us, BISHOP) | position.getPieces(us, QUEEN);
+        while (bishops != 0) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            addMoves(moves, from, Attacks.bishopAttacks(from, occupied) & targets, enemy);
+        }
+
+        long rooks = position.getPieces(us, ROOK) | position.getPieces(us, QUEEN);
+        while (rooks != 0) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            addMoves(moves, from, Attacks.rookAttacks(from, occupied) & targets, enemy);
+        }
+
+        int king = position.kingSquare(us);
+        if (king != EMPTY) {
+            addMoves(moves, king, Attacks.kingAttacks(king) & targets, enemy);
+            if (!capturesOnly) generateCastlingMoves(position, moves, us, king, occupied);
+        }
+    }
+
+    public static boolean hasLegalMove(BitBoard position, MoveList moves) {
+        generatePseudoLegalMoves(position, moves);
+        for (int index = 0; index < moves.size(); index++) {
+            if (isLegal(position, moves.get(index))) return true;
+        }
+        return false;
+    }
+
+    public static boolean isLegal(BitBoard position, int move) {
+        Colour us = position.getSideToMove();
+        Colour them = opposite(us);
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int king = position.kingSquare(us);
+        if (king == EMPTY) return true;
+        if (Moves.flag(move) == Moves.CASTLE) return true;
+
+        long captured = bit(to);
+        if (Moves.flag(move) == Moves.EN_PASSANT) {
+            captured = bit(square(rankOf(from), fileOf(to)));
+        }
+        long occupied = (position.getOccupancy() & ~bit(from) & ~captured) | bit(to);
+        if (from == king) king = to;
+
+        long enemies = ~captured;
+        long queens = position.getPieces(them, QUEEN);
+        long attackers = (Attacks.knightAttacks(king) & position.getPieces(them, KNIGHT))
+                | (Attacks.pawnAttacks(us, king) & position.getPieces(them, PAWN))
+                | (Attacks.kingAttacks(king) & position.getPieces(them, KING))
+                | (Attacks.bishopAttacks(king, occupied) & (position.getPieces(them, BISHOP) | queens))
+                | (Attacks.rookAttacks(king, occupied) & (position.getPieces(them, ROOK) | queens));
+        return (attackers & enemies) == 0;
+    }
+
+    public static boolean isInCheck(BitBoard position, Colour colour) {
+        return position.isInCheck(colour);
+    }
+
+    // Without quiet moves, pushes are only generated when they promote.
+    private static void generatePawnMoves(BitBoard position, MoveList moves, Colour us, long enemy, long occupied, boolean capturesOnly) {
+        int forward = us == WHITE ? -8 : 8;
+        int startRank = us == WHITE ? 7 : 2;
+        int promotionRank = us == WHITE ? 1 : 8;
+        int enPassant = position.getEnPassantSquare();
+
+        long pawns = position.getPieces(us, PAWN);
+        while (pawns != 0) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            int oneStep = from + forward;
+            if (oneStep < 0 || oneStep > 63) continue;
+            if ((occupied & bit(oneStep)) == 0 && (!capturesOnly || rankOf(oneStep) == promotionRank)) {
+                addPawnMove(moves, from, oneStep, promotionRank, false);
+                int twoSteps = oneStep + forward;
+                if (!capturesOnly && rankOf(from) == startRank && (occupied & bit(twoSteps)) == 0) {
+                    moves.add(Moves.encode(from, twoSteps, Moves.DOUBLE_PUSH, false));
+                }
+            }
+
+            long attacks = Attacks.pawnAttacks(us, from);
+            long captures = attacks & enemy;
+            while (captures != 0) {
+                int to = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                addPawnMove(moves, from, to, promotionRank, true);
+            }
+            if (enPassant != EMPTY && (attacks & bit(enPassant)) != 0) {
+                moves.add(Moves.encode(from, enPassant, Moves.EN_PASSANT, true));
+            }
+        }
+    }
+
+    private static void addPawnMove(MoveList moves, int from, int to, int promotionRank, boolean isCapture) {
+        if (rankOf(to) == promotionRank) {
+            for (PieceType promotion : PROMOTIONS) {
+                moves.add(Moves.encodePromotion(from, to, promotion, isCapture));
+            }
+        } else {
+            moves.add(Moves.encode(from, to, Moves.NORMAL, isCapture));
+        }
+    }
+
+    private static void generateCastlingMoves(BitBoard position, MoveList moves, Colour us, int king, long occupied) {
+        int rights = position.getCastlingRights();
+        int kingSide = us == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        int queenSide = us == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        if ((rights & (kingSide | queenSide)) == 0) return;
+
+        Colour them = opposite(us);
+        int homeRank = homeRankOf(us);
+        if (king != square(homeRank, 5) || position.isAttacked(king, them)) return;
+
+        long rooks = position.getPieces(us, ROOK);
+        if ((rights & kingSide) != 0 && (rooks & bit(square(homeRank, 8))) != 0
+                && (occupied & Attacks.between(king, square(homeRank, 8))) == 0
+                && !position.isAttacked(square(homeRank, 6), them)
+                && !position.isAttacked(square(homeRank, 7), them)) {
+            moves.add(Moves.encode(king, square(homeRank, 7), Moves.CASTLE, false));
+        }
+        if ((rights & queenSide) != 0 && (rooks & bit(square(homeRank, 1))) != 0
+                && (occupied & Attacks.between(king, square(homeRank, 1))) == 0
+                && !position.isAttacked(square(homeRank, 4), them)
+                && !position.isAttacked(square(homeRank, 3), them)) {
+            moves.add(Moves.encode(king, square(homeRank, 3), Moves.CASTLE, false));
+        }
+    }
+
+    private static void addMoves(MoveList moves, int from, long targets, long enemy) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves.add(Moves.encode(from, to, Moves.NORMAL, (enemy & bit(to)) != 0));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package game.engine;
+
+public class MoveList {
+
+    public static final int MAX_MOVES = 256;
+
+    private final int[] moves = new int[MAX_MOVES];
+    private int size;
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void truncate(int size) {
+        this.size = size;
+    }
+
+    public boolean contains(int move) {
+        for (int index = 0; index < size; index++) {
+            if (moves[index] == move) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < size; index++) {
+            if (index > 0) builder.append(' ');
+            builder.append(Moves.toString(moves[index]));
+        }
+        return builder.toString();
+    }
+}
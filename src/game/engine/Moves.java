@@ -0,0 +1,74 @@
+package game.engine;
+
+import game.components.board.BitBoard;
+import game.properties.PieceType;
+
+public final class Moves {
+
+    public static final int NONE = 0;
+
+    public static final int NORMAL = 0;
+    public static final int DOUBLE_PUSH = 1;
+    public static final int CASTLE = 2;
+    public static final int EN_PASSANT = 3;
+
+    private static final int TO_SHIFT = 6;
+    private static final int PROMOTION_SHIFT = 12;
+    private static final int FLAG_SHIFT = 15;
+    private static final int CAPTURE = 1 << 17;
+
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final char[] PROMOTION_NAMES = {' ', 'n', 'b', 'r', 'q', ' '};
+
+    private Moves() {
+    }
+
+    public static int encode(int from, int to, int flag, boolean isCapture) {
+        return from | to << TO_SHIFT | flag << FLAG_SHIFT | (isCapture ? CAPTURE : 0);
+    }
+
+    public static int encodePromotion(int from, int to, PieceType promotion, boolean isCapture) {
+        return encode(from, to, NORMAL, isCapture) | promotion.ordinal() << PROMOTION_SHIFT;
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & 63;
+    }
+
+    public static int flag(int move) {
+        return (move >>> FLAG_SHIFT) & 3;
+    }
+
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return ((move >>> PROMOTION_SHIFT) & 7) != 0;
+    }
+
+    public static PieceType promotion(int move) {
+        return isPromotion(move) ? TYPES[(move >>> PROMOTION_SHIFT) & 7] : null;
+    }
+
+    // Notation uses standard square names; Board keeps black on rank 1, so a standard rank is 9 minus the board rank.
+    public static String squareName(int square) {
+        return "" + (char) ('a' + BitBoard.fileOf(square) - 1) + (9 - BitBoard.rankOf(square));
+    }
+
+    public static int parseSquare(CharSequence name, int offset) {
+        int file = name.charAt(offset) - 'a' + 1;
+        int rank = 9 - (name.charAt(offset + 1) - '0');
+        if (file < 1 || file > 8 || rank < 1 || rank > 8) return BitBoard.EMPTY;
+        return BitBoard.square(rank, file);
+    }
+
+    public static String toString(int move) {
+        String name = squareName(from(move)) + squareName(to(move));
+        return isPromotion(move) ? name + PROMOTION_NAMES[promotion(move).ordinal()] : name;
+    }
+}
@@ -0,0 +1,102 @@
+package game.engine;
+
+import game.components.board.BitBoard;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ParallelSearch implements AutoCloseable {
+
+    private final TranspositionTable transpositionTable;
+    private final AtomicBoolean abortSignal = new AtomicBoolean();
+    private final Search[] searches;
+    private final Future<?>[] helpers;
+    private final ExecutorService executor;
+    private long nodes;
+    private long elapsedNanos;
+
+    public ParallelSearch(TranspositionTable transpositionTable, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("Search needs at least one thread");
+        this.transpositionTable = transpositionTable;
+        searches = new Search[threads];
+        helpers = new Future<?>[threads];
+        for (int index = 0; index < threads; index++) {
+            searches[index] = new Search(transpositionTable, abortSignal);
+            searches[index].setAgesTable(false);
+            searches[index].setDepthOffset(index & 1);
+        }
+        executor = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Lazy SMP: helpers search the same root through the shared table; only the main search's result is played.
+    public int search(BitBoard root, SearchLimits limits) {
+        long start = System.nanoTime();
+        abortSignal.set(false);
+        transpositionTable.newSearch();
+
+        SearchLimits helperLimits = new SearchLimits(SearchLimits.MAX_DEPTH, limits.getTimeMillis(), Long.MAX_VALUE);
+        for (int index = 1; index < searches.length; index++) {
+            Search helper = searches[index];
+            helpers[index] = executor.submit(() -> helper.search(root, helperLimits));
+        }
+
+        int bestMove = searches[0].search(root, limits);
+        abortSignal.set(true);
+
+        nodes = searches[0].getNodes();
+        for (int index = 1; index < searches.length; index++) {
+            awaitHelper(helpers[index]);
+            nodes += searches[index].getNodes();
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return bestMove;
+    }
+
+    private void awaitHelper(Future<?> helper) {
+        try {
+            helper.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        }
+    }
+
+    public void stop() {
+        abortSignal.set(true);
+        searches[0].stop();
+    }
+
+    public Search getMainSearch() {
+        return searches[0];
+    }
+
+    public int getThreads() {
+        return searches.length;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    @Override
+    public void close() {
+        abortSignal.set(true);
+        if (executor != null) executor.shutdownNow();
+    }
+}
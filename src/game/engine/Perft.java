@@ -0,0 +1,142 @@
+package game.engine;
+
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.gameExceptions.InvalidMoveException;
+import game.notation.Fen;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static game.components.board.BitBoard.NUMBER_OF_PIECES;
+import static game.properties.Colour.WHITE;
+
+public class Perft {
+
+    private final BitBoard position = new BitBoard();
+    private final MoveList[] moveLists;
+    private long elapsedNanos;
+    private long nodes;
+
+    public Perft(int maxDepth) {
+        moveLists = new MoveList[maxDepth + 1];
+        for (int ply = 0; ply <= maxDepth; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public long perft(BitBoard root, int depth) {
+        long start = System.nanoTime();
+        position.copyFrom(root);
+        nodes = search(0, depth);
+        elapsedNanos = System.nanoTime() - start;
+        return nodes;
+    }
+
+    // Plays every move on the set through its players and pieces, and takes it back with undoMove, instead of on a bit board.
+    // After every move the set has to show the same position as the move generator, so the pieces' rules and undo are checked against it.
+    public long perft(Set set, int depth) {
+        long start = System.nanoTime();
+        position.copyFrom(set.snapshot().toBitBoard());
+        nodes = depth <= 0 ? 1 : search(set, 0, depth);
+        requireSamePosition(set, Moves.NONE);
+        elapsedNanos = System.nanoTime() - start;
+        return nodes;
+    }
+
+    public Map<String, Long> divide(BitBoard root, int depth) {
+        long start = System.nanoTime();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        position.copyFrom(root);
+        MoveList moves = moveLists[0];
+        MoveGenerator.generateLegalMoves(position, moves);
+        nodes = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            position.makeMove(move);
+            long count = depth <= 1 ? 1 : search(1, depth - 1);
+            position.unmakeMove();
+            counts.put(Moves.toString(move), count);
+            nodes += count;
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return counts;
+    }
+
+    private long search(int ply, int depth) {
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateLegalMoves(position, moves);
+        if (depth <= 1) return depth == 1 ? moves.size() : 1;
+
+        long count = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            position.makeMove(moves.get(index));
+            count += search(ply + 1, depth - 1);
+            position.unmakeMove();
+        }
+        return count;
+    }
+
+    private long search(Set set, int ply, int depth) {
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        long count = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            Player player = set.getPlayerToMove();
+            try {
+                player.makeMove(set.getBoard(), move);
+            } catch (InvalidMoveException exception) {
+                throw new IllegalStateException("The pieces do not allow " + Moves.toString(move) + " in " + Fen.toFen(position), exception);
+            }
+            position.makeMove(move);
+            requireSamePosition(set, move);
+            count += depth <= 1 ? 1 : search(set, ply + 1, depth - 1);
+            player.undoMove();
+            position.unmakeMove();
+        }
+        return count;
+    }
+
+    private void requireSamePosition(Set set, int move) {
+        BitBoard played = set.snapshot().toBitBoard();
+        boolean isSame = played.getKey() == position.getKey() && played.getSideToMove() == position.getSideToMove()
+                && played.getCastlingRights() == position.getCastlingRights() && played.getEnPassantSquare() == position.getEnPassantSquare();
+        for (int piece = 0; piece < NUMBER_OF_PIECES && isSame; piece++) {
+            isSame = played.getPieces(piece) == position.getPieces(piece);
+        }
+        if (!isSame) {
+            throw new IllegalStateException((move == Moves.NONE ? "After undoing every move" : "After " + Moves.toString(move))
+                    + " the pieces show " + Fen.toFen(played) + " but the move generator has " + Fen.toFen(position));
+        }
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Set set = new Set("perft", "perft");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        Perft perft = new Perft(depth);
+        Map<String, Long> counts = perft.divide(BitBoard.of(set.getBoard(), WHITE), depth);
+        counts.forEach((move, count) -> System.out.println(move + ": " + count));
+        System.out.println();
+        System.out.println("Nodes: " + perft.getNodes());
+        System.out.println("Time: " + perft.getElapsedNanos() / 1_000_000 + " ms");
+        System.out.println("Nodes/second: " + perft.getNodesPerSecond());
+    }
+}
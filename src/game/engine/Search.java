@@ -0,0 +1,317 @@
+package game.engine;
+
+import game.components.Set;
+import game.components.board.BitBoard;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.typeOf;
+import static game.properties.Colour.WHITE;
+
+public class Search {
+
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int MAX_PLY = 128;
+
+    private static final int ASPIRATION_WINDOW = 50;
+    private static final int CHECK_INTERVAL = 2047;
+    private static final int HASH_MOVE_SCORE = 1_000_000;
+    private static final int CAPTURE_SCORE = 100_000;
+    private static final int PROMOTION_SCORE = 90_000;
+
+    private final TranspositionTable transpositionTable;
+    private final BitBoard position = new BitBoard();
+    private final MoveList[] moveLists = new MoveList[MAX_PLY];
+    private final int[][] moveScores = new int[MAX_PLY][MoveList.MAX_MOVES];
+    private final AtomicBoolean abortSignal;
+    private PrintStream output;
+    private int depthOffset;
+    private boolean agesTable = true;
+
+    private volatile boolean stopped;
+    private long deadline;
+    private long nodeLimit;
+    private long startNanos;
+    private long elapsedNanos;
+    private long nodes;
+    private int bestMove;
+    private int rootBestMove;
+    private int score;
+    private int completedDepth;
+
+    public Search(TranspositionTable transpositionTable) {
+        this(transpositionTable, new AtomicBoolean());
+    }
+
+    // Searches sharing one abort signal can all be stopped at once, even before they have started.
+    public Search(TranspositionTable transpositionTable, AtomicBoolean abortSignal) {
+        this.transpositionTable = transpositionTable;
+        this.abortSignal = abortSignal;
+        for (int ply = 0; ply < MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public int search(BitBoard root, SearchLimits limits) {
+        startNanos = System.nanoTime();
+        deadline = limits.getTimeMillis() == Long.MAX_VALUE ? Long.MAX_VALUE : startNanos + limits.getTimeMillis() * 1_000_000L;
+        nodeLimit = limits.getNodes();
+        nodes = 0;
+        stopped = false;
+        bestMove = Moves.NONE;
+        rootBestMove = Moves.NONE;
+        score = 0;
+        completedDepth = 0;
+        position.copyFrom(root);
+        if (agesTable) transpositionTable.newSearch();
+
+        for (int depth = 1; depth <= limits.getDepth(); depth++) {
+            int value = aspirationSearch(depth + depthOffset, score);
+            if (stopped) break;
+            score = value;
+            bestMove = rootBestMove;
+            completedDepth = depth + depthOffset;
+            report();
+            if (Math.abs(value) >= MATE - MAX_PLY) break;
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+
+        if (bestMove == Moves.NONE) bestMove = rootBestMove;
+        if (bestMove == Moves.NONE) {
+            MoveList moves = moveLists[0];
+            MoveGenerator.generateLegalMoves(position, moves);
+            if (moves.size() > 0) bestMove = moves.get(0);
+        }
+        return bestMove;
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    private int aspirationSearch(int depth, int previousScore) {
+        int window = ASPIRATION_WINDOW;
+        int alpha = depth == 1 ? -INFINITY : Math.max(-INFINITY, previousScore - window);
+        int beta = depth == 1 ? INFINITY : Math.min(INFINITY, previousScore + window);
+        while (true) {
+            int value = negamax(depth, alpha, beta, 0);
+            if (stopped) return value;
+            if (value <= alpha) {
+                alpha = Math.max(-INFINITY, value - window);
+            } else if (value >= beta) {
+                beta = Math.min(INFINITY, value + window);
+            } else {
+                return value;
+            }
+            window *= 2;
+        }
+    }
+
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        if (ply > 0 && position.isRepetition()) return 0;
+        if (depth <= 0) return quiescence(alpha, beta, ply);
+        if (shouldStop()) return 0;
+        nodes++;
+
+        long key = position.getKey();
+        int hashMove = Moves.NONE;
+        long entry = transpositionTable.probe(key);
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int value = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && value >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && value <= alpha)) {
+                    return value;
+                }
+            }
+        }
+
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateLegalMoves(position, moves);
+        if (moves.size() == 0) {
+            return position.isInCheck(position.getSideToMove()) ? -MATE + ply : 0;
+        }
+        if (ply >= MAX_PLY - 1) return Evaluation.evaluate(position);
+        scoreMoves(moves, ply, hashMove);
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMoveHere = Moves.NONE;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = nextMove(moves, ply, index);
+            position.makeMove(move);
+            int value = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            position.unmakeMove();
+            if (stopped) return 0;
+
+            if (value > best) {
+                best = value;
+                bestMoveHere = move;
+                if (value > alpha) {
+                    alpha = value;
+                    if (ply == 0) rootBestMove = move;
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER_BOUND
+                : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        transpositionTable.store(key, bestMoveHere, toTable(best, ply), depth, bound);
+        return best;
+    }
+
+    private int quiescence(int alpha, int beta, int ply) {
+        if (shouldStop()) return 0;
+        nodes++;
+
+        MoveList moves = moveLists[ply];
+        if (position.isInCheck(position.getSideToMove())) {
+            // Standing pat is no option in check, so every evasion is searched and having none is mate.
+            if (ply >= MAX_PLY - 1) return Evaluation.evaluate(position);
+            MoveGenerator.generateLegalMoves(position, moves);
+            if (moves.size() == 0) return -MATE + ply;
+        } else {
+            int standPat = Evaluation.evaluate(position);
+            if (standPat >= beta || ply >= MAX_PLY - 1) return standPat;
+            if (standPat > alpha) alpha = standPat;
+            MoveGenerator.generateLegalCaptures(position, moves);
+        }
+        scoreMoves(moves, ply, Moves.NONE);
+
+        for (int index = 0; index < moves.size(); index++) {
+            int move = nextMove(moves, ply, index);
+            position.makeMove(move);
+            int value = -quiescence(-beta, -alpha, ply + 1);
+            position.unmakeMove();
+            if (stopped) return 0;
+
+            if (value >= beta) return value;
+            if (value > alpha) alpha = value;
+        }
+        return alpha;
+    }
+
+    private boolean shouldStop() {
+        if (nodes >= nodeLimit
+                || ((nodes & CHECK_INTERVAL) == 0 && (abortSignal.get() || System.nanoTime() >= deadline))) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    // Hash move first, then captures by most valuable victim and least valuable attacker, then promotions.
+    private void scoreMoves(MoveList moves, int ply, int hashMove) {
+        int[] scores = moveScores[ply];
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (move == hashMove) {
+                scores[index] = HASH_MOVE_SCORE;
+            } else if (Moves.isCapture(move)) {
+                int victim = position.pieceAt(Moves.to(move));
+                int victimValue = victim == EMPTY ? Evaluation.PIECE_VALUES[0] : Evaluation.PIECE_VALUES[typeOf(victim).ordinal()];
+                scores[index] = CAPTURE_SCORE + victimValue * 8 - typeOf(position.pieceAt(Moves.from(move))).ordinal();
+            } else if (Moves.isPromotion(move)) {
+                scores[index] = PROMOTION_SCORE + Moves.promotion(move).ordinal();
+            } else {
+                scores[index] = 0;
+            }
+        }
+    }
+
+    private int nextMove(MoveList moves, int ply, int index) {
+        int[] scores = moveScores[ply];
+        int best = index;
+        for (int candidate = index + 1; candidate < moves.size(); candidate++) {
+            if (scores[candidate] > scores[best]) best = candidate;
+        }
+        int move = moves.get(best);
+        if (best != index) {
+            moves.set(best, moves.get(index));
+            moves.set(index, move);
+            int swappedScore = scores[best];
+            scores[best] = scores[index];
+            scores[index] = swappedScore;
+        }
+        return move;
+    }
+
+    // Mate scores are stored relative to the node, not the root, so they stay valid when reached through another path.
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score + ply;
+        if (score <= -MATE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score - ply;
+        if (score <= -MATE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    private void report() {
+        if (output == null) return;
+        long elapsed = System.nanoTime() - startNanos;
+        String scoreText = Math.abs(score) >= MATE - MAX_PLY
+                ? "mate " + (score > 0 ? (MATE - score + 1) / 2 : -(MATE + score) / 2)
+                : "cp " + score;
+        output.println("info depth " + completedDepth + " score " + scoreText + " nodes " + nodes
+                + " nps " + (elapsed == 0 ? 0 : nodes * 1_000_000_000L / elapsed)
+                + " time " + elapsed / 1_000_000 + " pv " + Moves.toString(bestMove));
+    }
+
+    void setDepthOffset(int depthOffset) {
+        this.depthOffset = depthOffset;
+    }
+
+    void setAgesTable(boolean agesTable) {
+        this.agesTable = agesTable;
+    }
+
+    public void setOutput(PrintStream output) {
+        this.output = output;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+        Set set = new Set("search", "search");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        Search search = new Search(new TranspositionTable(64));
+        search.setOutput(System.out);
+        int move = search.search(BitBoard.of(set.getBoard(), WHITE), SearchLimits.depth(depth));
+        System.out.println("bestmove " + Moves.toString(move));
+        System.out.println("Nodes/second: " + search.getNodesPerSecond());
+    }
+}
@@ -0,0 +1,40 @@
+package game.engine;
+
+public class SearchLimits {
+
+    public static final int MAX_DEPTH = 64;
+
+    private final int depth;
+    private final long timeMillis;
+    private final long nodes;
+
+    public SearchLimits(int depth, long timeMillis, long nodes) {
+        this.depth = Math.min(depth, MAX_DEPTH);
+        this.timeMillis = timeMillis;
+        this.nodes = nodes;
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(MAX_DEPTH, timeMillis, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(MAX_DEPTH, Long.MAX_VALUE, nodes);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
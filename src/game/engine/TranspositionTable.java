@@ -0,0 +1,116 @@
+package game.engine;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    public static final long NO_ENTRY = 0L;
+
+    // Each bucket holds a depth-preferred entry followed by an always-replace entry, each stored as (key ^ data, data).
+    private static final int LONGS_PER_BUCKET = 4;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+
+    private static final int MOVE_BITS = 18;
+    private static final int SCORE_SHIFT = MOVE_BITS;
+    private static final int DEPTH_SHIFT = SCORE_SHIFT + 16;
+    private static final int BOUND_SHIFT = DEPTH_SHIFT + 8;
+    private static final int GENERATION_SHIFT = BOUND_SHIFT + 2;
+    private static final int GENERATIONS = 64;
+
+    private long[] table;
+    private int mask;
+    private int generation;
+
+    public TranspositionTable(int megabytes) {
+        resize(megabytes);
+    }
+
+    public void resize(int megabytes) {
+        if (megabytes < 1) throw new IllegalArgumentException("Transposition table needs at least 1 MB");
+        long buckets = Long.highestOneBit(megabytes * 1024L * 1024L / BYTES_PER_BUCKET);
+        buckets = Math.min(buckets, Integer.highestOneBit(Integer.MAX_VALUE / LONGS_PER_BUCKET));
+        table = new long[(int) buckets * LONGS_PER_BUCKET];
+        mask = (int) buckets - 1;
+        generation = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        generation = 0;
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) % GENERATIONS;
+    }
+
+    public long probe(long key) {
+        int bucket = bucketOf(key);
+        for (int slot = bucket; slot < bucket + LONGS_PER_BUCKET; slot += 2) {
+            long data = table[slot + 1];
+            if ((table[slot] ^ data) == key && data != NO_ENTRY) return data;
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int bucket = bucketOf(key);
+        int slot = bucket + 2;
+        long preferred = table[bucket + 1];
+        if ((table[bucket] ^ preferred) == key || depth >= depth(preferred) || generation(preferred) != generation) {
+            slot = bucket;
+        }
+
+        long previous = table[slot + 1];
+        if (move == Moves.NONE && (table[slot] ^ previous) == key) move = move(previous);
+
+        long data = (move & ((1L << MOVE_BITS) - 1))
+                | ((score & 0xFFFFL) << SCORE_SHIFT)
+                | ((long) Math.max(0, Math.min(depth, 255)) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) generation << GENERATION_SHIFT);
+        table[slot] = key ^ data;
+        table[slot + 1] = data;
+    }
+
+    // Permille of the first thousand buckets' depth-preferred entries written during the current search.
+    public int hashfull() {
+        int samples = Math.min(1000, mask + 1);
+        int used = 0;
+        for (int bucket = 0; bucket < samples; bucket++) {
+            long data = table[bucket * LONGS_PER_BUCKET + 1];
+            if (data != NO_ENTRY && generation(data) == generation) used++;
+        }
+        return used * 1000 / samples;
+    }
+
+    public int getCapacity() {
+        return (mask + 1) * 2;
+    }
+
+    public static int move(long entry) {
+        return (int) (entry & ((1L << MOVE_BITS) - 1));
+    }
+
+    public static int score(long entry) {
+        return (short) (entry >>> SCORE_SHIFT);
+    }
+
+    public static int depth(long entry) {
+        return (int) ((entry >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static int bound(long entry) {
+        return (int) ((entry >>> BOUND_SHIFT) & 3);
+    }
+
+    private static int generation(long entry) {
+        return (int) ((entry >>> GENERATION_SHIFT) & (GENERATIONS - 1));
+    }
+
+    private int bucketOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) * LONGS_PER_BUCKET;
+    }
+}
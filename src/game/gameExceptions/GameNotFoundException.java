@@ -0,0 +1,7 @@
+package game.gameExceptions;
+
+public class GameNotFoundException extends ChessGameExceptions {
+    public GameNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package game.gameExceptions;
+
+public class InvalidFenException extends ChessGameExceptions {
+    public InvalidFenException(String message) {
+        super(message);
+    }
+}
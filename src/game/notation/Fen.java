@@ -0,0 +1,222 @@
+package game.notation;
+
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.gameExceptions.InvalidFenException;
+import game.pieces.*;
+import game.pieces.king.King;
+import game.properties.Colour;
+import game.properties.Move;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+
+// The first FEN row is board rank 1, where black sets up, so FEN ranks read top to bottom in the same order as floors.
+public final class Fen {
+
+    public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final char[] SYMBOLS = {'p', 'n', 'b', 'r', 'q', 'k', 'P', 'N', 'B', 'R', 'Q', 'K'};
+    private static final int[] PIECES_BY_SYMBOL = new int[128];
+
+    static {
+        Arrays.fill(PIECES_BY_SYMBOL, EMPTY);
+        for (int piece = 0; piece < SYMBOLS.length; piece++) {
+            PIECES_BY_SYMBOL[SYMBOLS[piece]] = piece;
+        }
+    }
+
+    private Fen() {
+    }
+
+    public static BitBoard toBitBoard(CharSequence fen) {
+        BitBoard position = new BitBoard();
+        load(fen, position);
+        return position;
+    }
+
+    // Reuses the given position so that bulk loading does not allocate per position. Move clocks may be left out.
+    public static void load(CharSequence fen, BitBoard position) {
+        position.clear();
+        try {
+            int index = 0;
+            int rank = 1;
+            int file = 1;
+            char symbol;
+            while ((symbol = fen.charAt(index++)) != ' ') {
+                if (symbol == '/') {
+                    if (file != 9 || ++rank > 8) throw invalid(fen);
+                    file = 1;
+                } else if (symbol >= '1' && symbol <= '8') {
+                    file += symbol - '0';
+                    if (file > 9) throw invalid(fen);
+                } else {
+                    int piece = symbol < 128 ? PIECES_BY_SYMBOL[symbol] : EMPTY;
+                    if (piece == EMPTY || file > 8) throw invalid(fen);
+                    position.put(piece, square(rank, file++));
+                }
+            }
+            if (rank != 8 || file != 9) throw invalid(fen);
+
+            symbol = fen.charAt(index++);
+            if (symbol != 'w' && symbol != 'b') throw invalid(fen);
+            position.setSideToMove(symbol == 'w' ? WHITE : BLACK);
+            if (fen.charAt(index++) != ' ') throw invalid(fen);
+
+            // Either a lone - or each right at most once.
+            int castlingRights = 0;
+            if (fen.charAt(index) == '-') index++;
+            while ((symbol = fen.charAt(index++)) != ' ') {
+                int castlingRight = switch (symbol) {
+                    case 'K' -> WHITE_KING_SIDE;
+                    case 'Q' -> WHITE_QUEEN_SIDE;
+                    case 'k' -> BLACK_KING_SIDE;
+                    case 'q' -> BLACK_QUEEN_SIDE;
+                    default -> throw invalid(fen);
+                };
+                if ((castlingRights & castlingRight) != 0 || fen.charAt(index - 2) == '-') throw invalid(fen);
+                castlingRights |= castlingRight;
+            }
+            if (castlingRights == 0 && fen.charAt(index - 2) != '-') throw invalid(fen);
+            position.setCastlingRights(castlingRights);
+
+            symbol = fen.charAt(index++);
+            if (symbol != '-') {
+                char digit = fen.charAt(index++);
+                if (symbol < 'a' || symbol > 'h' || digit < '1' || digit > '8') throw invalid(fen);
+                position.setEnPassantSquare(square('9' - digit, symbol - 'a' + 1));
+            }
+
+            if (index == fen.length()) return;
+            if (fen.charAt(index++) != ' ') throw invalid(fen);
+            int halfMoveClock = 0;
+            while (index < fen.length() && (symbol = fen.charAt(index)) != ' ') {
+                if (symbol < '0' || symbol > '9') throw invalid(fen);
+                halfMoveClock = halfMoveClock * 10 + symbol - '0';
+                index++;
+            }
+            position.setHalfMoveClock(halfMoveClock);
+
+            if (index++ == fen.length()) return;
+            int fullMoveNumber = 0;
+            while (index < fen.length() && (symbol = fen.charAt(index)) != ' ') {
+                if (symbol < '0' || symbol > '9') throw invalid(fen);
+                fullMoveNumber = fullMoveNumber * 10 + symbol - '0';
+                index++;
+            }
+            position.setFullMoveNumber(Math.max(fullMoveNumber, 1));
+        } catch (IndexOutOfBoundsException exception) {
+            throw invalid(fen);
+        }
+    }
+
+    public static Board toBoard(CharSequence fen) {
+        Board board = new Board(8, 8);
+        place(toBitBoard(fen), board);
+        return board;
+    }
+
+    // Pawns off their starting rank, and kings and rooks without a matching castling right, are marked as having moved.
+    // The board has to be empty, since pieces already on it would be mixed into the position.
+    public static List<Piece> place(BitBoard position, Board board) {
+        if (board.getBitBoard().getOccupancy() != 0) throw new IllegalArgumentException("Pieces can only be placed on an empty board");
+        List<Piece> pieces = new ArrayList<>();
+        int castlingRights = position.getCastlingRights();
+        for (int square = 0; square < 64; square++) {
+            int piece = position.pieceAt(square);
+            if (piece == EMPTY) continue;
+            Colour colour = colourOf(piece);
+            Floor floor = board.getFloor(rankOf(square), fileOf(square));
+            int homeRank = homeRankOf(colour);
+            int kingSide = colour == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+            int queenSide = colour == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+            switch (typeOf(piece)) {
+                case PAWN -> {
+                    Pawn pawn = new Pawn(colour, floor);
+                    pawn.setHasMadeFirstMove(rankOf(square) != (colour == WHITE ? 7 : 2));
+                    pieces.add(pawn);
+                }
+                case KNIGHT -> pieces.add(new Knight(colour, floor));
+                case BISHOP -> pieces.add(new Bishop(colour, floor));
+                case ROOK -> {
+                    Rook rook = new Rook(colour, floor);
+                    boolean canCastle = (square == square(homeRank, 8) && (castlingRights & kingSide) != 0)
+                            || (square == square(homeRank, 1) && (castlingRights & queenSide) != 0);
+                    rook.setHasMadeFirstMove(!canCastle);
+                    pieces.add(rook);
+                }
+                case QUEEN -> pieces.add(new Queen(colour, floor));
+                case KING -> {
+                    King king = new King(colour, floor);
+                    king.setHasMadeFirstMove(square != square(homeRank, 5) || (castlingRights & (kingSide | queenSide)) == 0);
+                    pieces.add(king);
+                }
+            }
+        }
+        markDoubleStep(position, board);
+        return pieces;
+    }
+
+    // The pawn that skipped the en passant square is given that double step as its last move, as if it had just been played.
+    private static void markDoubleStep(BitBoard position, Board board) {
+        int enPassantSquare = position.getEnPassantSquare();
+        if (enPassantSquare == EMPTY) return;
+        int forward = position.getSideToMove() == WHITE ? 1 : -1;
+        int rank = rankOf(enPassantSquare);
+        int file = fileOf(enPassantSquare);
+        if (rank + forward < 1 || rank + forward > 8 || rank - forward < 1 || rank - forward > 8) return;
+        Piece pawn = board.getFloor(rank + forward, file).getCurrentOccupant();
+        if (pawn instanceof Pawn) pawn.addMove(new Move(board.getFloor(rank - forward, file), pawn.getCurrentFloor()));
+    }
+
+    public static String toFen(Board board, Colour sideToMove) {
+        return toFen(BitBoard.of(board, sideToMove));
+    }
+
+    public static String toFen(BitBoard position) {
+        StringBuilder fen = new StringBuilder(90);
+        for (int rank = 1; rank <= 8; rank++) {
+            int emptyFloors = 0;
+            for (int file = 1; file <= 8; file++) {
+                int piece = position.pieceAt(square(rank, file));
+                if (piece == EMPTY) {
+                    emptyFloors++;
+                    continue;
+                }
+                if (emptyFloors > 0) fen.append((char) ('0' + emptyFloors));
+                emptyFloors = 0;
+                fen.append(SYMBOLS[piece]);
+            }
+            if (emptyFloors > 0) fen.append((char) ('0' + emptyFloors));
+            if (rank < 8) fen.append('/');
+        }
+
+        fen.append(position.getSideToMove() == WHITE ? " w " : " b ");
+        int castlingRights = position.getCastlingRights();
+        if (castlingRights == 0) fen.append('-');
+        if ((castlingRights & WHITE_KING_SIDE) != 0) fen.append('K');
+        if ((castlingRights & WHITE_QUEEN_SIDE) != 0) fen.append('Q');
+        if ((castlingRights & BLACK_KING_SIDE) != 0) fen.append('k');
+        if ((castlingRights & BLACK_QUEEN_SIDE) != 0) fen.append('q');
+
+        int enPassant = position.getEnPassantSquare();
+        fen.append(' ');
+        if (enPassant == EMPTY) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + fileOf(enPassant) - 1)).append((char) ('9' - rankOf(enPassant)));
+        }
+        return fen.append(' ').append(position.getHalfMoveClock())
+                .append(' ').append(position.getFullMoveNumber()).toString();
+    }
+
+    private static InvalidFenException invalid(CharSequence fen) {
+        return new InvalidFenException("Invalid FEN " + fen);
+    }
+}
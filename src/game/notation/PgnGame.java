@@ -0,0 +1,88 @@
+package game.notation;
+
+import game.components.Set;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PgnGame {
+
+    public static final String WHITE_WINS = "1-0";
+    public static final String BLACK_WINS = "0-1";
+    public static final String DRAW = "1/2-1/2";
+    public static final String UNFINISHED = "*";
+
+    private final Map<String, String> tags;
+    private int[] moves;
+    private int moveCount;
+    private String result = UNFINISHED;
+
+    public PgnGame() {
+        this(new LinkedHashMap<>());
+    }
+
+    public PgnGame(Map<String, String> tags) {
+        this.tags = new LinkedHashMap<>(tags);
+        moves = new int[64];
+    }
+
+    public PgnGame(Map<String, String> tags, int[] moves, String result) {
+        this.tags = new LinkedHashMap<>(tags);
+        this.moves = moves.clone();
+        moveCount = moves.length;
+        this.result = result;
+    }
+
+    public void addMove(int move) {
+        if (moveCount == moves.length) moves = Arrays.copyOf(moves, Math.max(moveCount * 2, 16));
+        moves[moveCount++] = move;
+    }
+
+    public int getMove(int ply) {
+        if (ply >= moveCount) throw new IndexOutOfBoundsException(ply);
+        return moves[ply];
+    }
+
+    public int[] getMoves() {
+        return Arrays.copyOf(moves, moveCount);
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public void setTag(String name, String value) {
+        tags.put(name, value);
+    }
+
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    public Map<String, String> getTags() {
+        return Collections.unmodifiableMap(tags);
+    }
+
+    public String getStartingFen() {
+        String fen = tags.get("FEN");
+        return fen == null ? Fen.STARTING_POSITION : fen;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    // Plays the game through the players of the set, so every move is checked again by the rules in game.pieces.
+    public void replay(Set set) {
+        set.setUp(getStartingFen());
+        for (int ply = 0; ply < moveCount; ply++) {
+            set.getPlayerToMove().makeMove(set.getBoard(), moves[ply]);
+        }
+    }
+}
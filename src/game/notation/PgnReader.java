@@ -0,0 +1,243 @@
+package game.notation;
+
+import game.components.board.BitBoard;
+import game.engine.MoveList;
+import game.gameExceptions.ChessGameExceptions;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Reads one game at a time from the stream, so memory use does not grow with the size of the database.
+public class PgnReader implements Closeable {
+
+    // Only the first errors are kept; games skipped after that are still counted by getGamesSkipped.
+    public static final int MAX_ERRORS = 100;
+
+    private static final int END = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+
+    private final BitBoard board = new BitBoard();
+    private final MoveList scratch = new MoveList();
+    private final StringBuilder token = new StringBuilder(16);
+    private final List<String> errors = new ArrayList<>();
+    private long gamesRead;
+    private long gamesSkipped;
+    private long elapsedNanos;
+
+    public PgnReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // A game with an illegal or ambiguous move, or a FEN tag that can not be read, is skipped up to the tags of the next game
+    // and its error kept, so one bad game does not stop the rest of the database from being read.
+    public PgnGame next() throws IOException {
+        long start = System.nanoTime();
+        while (true) {
+            int symbol = skipWhitespace();
+            if (symbol == END) return null;
+
+            PgnGame game = new PgnGame();
+            while (symbol == '[') {
+                position++;
+                readTag(game);
+                symbol = skipWhitespace();
+            }
+            try {
+                Fen.load(game.getStartingFen(), board);
+                readMoves(game);
+            } catch (ChessGameExceptions exception) {
+                gamesSkipped++;
+                if (errors.size() < MAX_ERRORS) errors.add("Game " + (gamesRead + gamesSkipped) + ": " + exception.getMessage());
+                skipToNextGame();
+                continue;
+            }
+
+            gamesRead++;
+            elapsedNanos += System.nanoTime() - start;
+            return game;
+        }
+    }
+
+    private void readTag(PgnGame game) throws IOException {
+        skipWhitespace();
+        token.setLength(0);
+        int symbol;
+        while ((symbol = read()) != END && symbol != '"' && symbol != ']' && !Character.isWhitespace(symbol)) {
+            token.append((char) symbol);
+        }
+        String name = token.toString();
+        while (symbol != END && symbol != '"' && symbol != ']') symbol = read();
+
+        token.setLength(0);
+        if (symbol == '"') {
+            while ((symbol = read()) != END && symbol != '"') {
+                if (symbol == '\\') symbol = read();
+                if (symbol != END) token.append((char) symbol);
+            }
+            while (symbol != END && symbol != ']') symbol = read();
+        }
+        game.setTag(name, token.toString());
+    }
+
+    private void readMoves(PgnGame game) throws IOException {
+        int symbol;
+        while ((symbol = skipWhitespace()) != END) {
+            switch (symbol) {
+                case '[' -> {
+                    return;
+                }
+                case '{' -> skipPast('}');
+                case ';', '%' -> skipPast('\n');
+                case '(' -> skipVariation();
+                case '$' -> {
+                    position++;
+                    readToken();
+                }
+                default -> {
+                    readToken();
+                    if (isResult()) {
+                        game.setResult(token.toString());
+                        return;
+                    }
+                    int start = 0;
+                    if (!startsWith("0-0")) {
+                        while (start < token.length() && Character.isDigit(token.charAt(start))) start++;
+                        while (start < token.length() && token.charAt(start) == '.') start++;
+                    }
+                    if (start == token.length()) continue;
+                    if (start > 0) token.delete(0, start);
+                    int move = San.toMove(board, token, scratch);
+                    board.makeMove(move);
+                    game.addMove(move);
+                }
+            }
+        }
+    }
+
+    private void readToken() throws IOException {
+        token.setLength(0);
+        int symbol;
+        while ((symbol = peek()) != END && !Character.isWhitespace(symbol)
+                && symbol != '{' && symbol != '(' && symbol != ')' && symbol != ';' && symbol != '[' && symbol != '$') {
+            token.append((char) symbol);
+            position++;
+        }
+        if (token.length() == 0) position++;
+    }
+
+    private boolean isResult() {
+        return token.length() == 1 && token.charAt(0) == '*'
+                || contentEquals(PgnGame.WHITE_WINS) || contentEquals(PgnGame.BLACK_WINS) || contentEquals(PgnGame.DRAW);
+    }
+
+    private boolean contentEquals(String text) {
+        return token.length() == text.length() && startsWith(text);
+    }
+
+    private boolean startsWith(String text) {
+        if (token.length() < text.length()) return false;
+        for (int index = 0; index < text.length(); index++) {
+            if (token.charAt(index) != text.charAt(index)) return false;
+        }
+        return true;
+    }
+
+    // Tags only start a game at the beginning of a line; a [ anywhere else, like in a comment, is part of the moves.
+    private void skipToNextGame() throws IOException {
+        int previous = ' ';
+        int symbol;
+        while ((symbol = peek()) != END) {
+            if (symbol == '[' && previous == '\n') return;
+            position++;
+            if (symbol == '{') skipPast('}');
+            previous = symbol;
+        }
+    }
+
+    private void skipVariation() throws IOException {
+        int depth = 0;
+        int symbol;
+        while ((symbol = read()) != END) {
+            if (symbol == '(') depth++;
+            else if (symbol == '{') skipPast('}');
+            else if (symbol == ')' && --depth == 0) return;
+        }
+    }
+
+    private void skipPast(char last) throws IOException {
+        int symbol;
+        while ((symbol = read()) != END && symbol != last) {
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        int symbol;
+        while ((symbol = peek()) != END && Character.isWhitespace(symbol)) position++;
+        return symbol;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END;
+            }
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        int symbol = peek();
+        if (symbol != END) position++;
+        return symbol;
+    }
+
+    public long getGamesRead() {
+        return gamesRead;
+    }
+
+    public long getGamesSkipped() {
+        return gamesSkipped;
+    }
+
+    // Why the first MAX_ERRORS skipped games were skipped, numbered by their place in the stream counting from 1.
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gamesRead * 1_000_000_000L / elapsedNanos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        long moves = 0;
+        try (PgnReader reader = new PgnReader(new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8))) {
+            PgnGame game;
+            while ((game = reader.next()) != null) {
+                moves += game.getMoveCount();
+            }
+            System.out.println("Games: " + reader.getGamesRead());
+            System.out.println("Moves: " + moves);
+            System.out.println("Time: " + reader.getElapsedNanos() / 1_000_000 + " ms");
+            System.out.println("Games/second: " + reader.getGamesPerSecond());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package game.notation;
+
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.engine.MoveList;
+import game.properties.GameState;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static game.properties.Colour.WHITE;
+
+public class PgnWriter implements Closeable, Flushable {
+
+    private static final int LINE_LENGTH = 80;
+    private static final String[] SEVEN_TAG_ROSTER = {"Event", "Site", "Date", "Round", "White", "Black", "Result"};
+
+    private final Writer writer;
+    private final BitBoard board = new BitBoard();
+    private final MoveList scratch = new MoveList();
+    private final StringBuilder line = new StringBuilder(LINE_LENGTH * 2);
+
+    public PgnWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static PgnGame gameOf(Set set, Map<String, String> tags) {
+        Map<String, String> gameTags = new LinkedHashMap<>();
+        gameTags.put("White", set.getWhitePiecePlayer().getUsername());
+        gameTags.put("Black", set.getBlackPiecePlayer().getUsername());
+        if (!Fen.STARTING_POSITION.equals(set.getInitialFen())) {
+            gameTags.put("SetUp", "1");
+            gameTags.put("FEN", set.getInitialFen());
+        }
+        gameTags.putAll(tags);
+        return new PgnGame(gameTags, set.getMoveHistory(), resultOf(set));
+    }
+
+    private static String resultOf(Set set) {
+        GameState state = set.getGameState();
+        if (state == GameState.CHECKMATE) return set.getSideToMove() == WHITE ? PgnGame.BLACK_WINS : PgnGame.WHITE_WINS;
+        return state.isOver() ? PgnGame.DRAW : PgnGame.UNFINISHED;
+    }
+
+    public void write(Set set, Map<String, String> tags) throws IOException {
+        write(gameOf(set, tags));
+    }
+
+    public void write(PgnGame game) throws IOException {
+        Map<String, String> tags = game.getTags();
+        for (String name : SEVEN_TAG_ROSTER) {
+            String value = name.equals("Result") ? game.getResult() : tags.getOrDefault(name, "?");
+            writeTag(name, value);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!isInSevenTagRoster(tag.getKey())) writeTag(tag.getKey(), tag.getValue());
+        }
+        writer.write('\n');
+
+        Fen.load(game.getStartingFen(), board);
+        line.setLength(0);
+        for (int ply = 0; ply < game.getMoveCount(); ply++) {
+            int move = game.getMove(ply);
+            if (board.getSideToMove() == WHITE) {
+                append(board.getFullMoveNumber() + ".");
+            } else if (ply == 0) {
+                append(board.getFullMoveNumber() + "...");
+            }
+            append(San.toSan(board, move, scratch));
+            board.makeMove(move);
+        }
+        append(game.getResult());
+        writer.write(line.append('\n').append('\n').toString());
+    }
+
+    private void append(String text) throws IOException {
+        if (line.length() > 0 && line.length() + 1 + text.length() > LINE_LENGTH) {
+            writer.write(line.append('\n').toString());
+            line.setLength(0);
+        }
+        if (line.length() > 0) line.append(' ');
+        line.append(text);
+    }
+
+    private void writeTag(String name, String value) throws IOException {
+        writer.write('[');
+        writer.write(name);
+        writer.write(" \"");
+        writer.write(value.replace("\\", "\\\\").replace("\"", "\\\""));
+        writer.write("\"]\n");
+    }
+
+    private static boolean isInSevenTagRoster(String name) {
+        for (String rosterName : SEVEN_TAG_ROSTER) {
+            if (rosterName.equals(name)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
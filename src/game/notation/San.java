@@ -0,0 +1,162 @@
+package game.notation;
+
+import game.components.board.BitBoard;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.engine.Moves;
+import game.gameExceptions.InvalidMoveException;
+import game.properties.PieceType;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.PieceType.*;
+
+// Standard algebraic notation. SAN ranks count from white's side, so SAN rank r is board rank 9 - r.
+public final class San {
+
+    private static final char[] LETTERS = {'P', 'N', 'B', 'R', 'Q', 'K'};
+
+    private San() {
+    }
+
+    public static int toMove(BitBoard position, CharSequence san) {
+        return toMove(position, san, new MoveList());
+    }
+
+    // Resolves the move against the legal moves of the position; scratch is reused so bulk parsing does not allocate.
+    public static int toMove(BitBoard position, CharSequence san, MoveList scratch) {
+        int end = san.length();
+        while (end > 0 && isSuffix(san.charAt(end - 1))) end--;
+        MoveGenerator.generateLegalMoves(position, scratch);
+
+        if (end >= 3 && (san.charAt(0) == 'O' || san.charAt(0) == '0')) {
+            int file = end >= 5 ? 3 : 7;
+            for (int index = 0; index < scratch.size(); index++) {
+                int move = scratch.get(index);
+                if (Moves.flag(move) == Moves.CASTLE && fileOf(Moves.to(move)) == file) return move;
+            }
+            throw invalid(san);
+        }
+
+        PieceType promotion = null;
+        if (end >= 3 && typeOfLetter(san.charAt(end - 1)) != null) {
+            promotion = typeOfLetter(san.charAt(--end));
+            if (san.charAt(end - 1) == '=') end--;
+        }
+        if (end < 2) throw invalid(san);
+        char toFile = san.charAt(end - 2);
+        char toRank = san.charAt(end - 1);
+        if (toFile < 'a' || toFile > 'h' || toRank < '1' || toRank > '8') throw invalid(san);
+        int to = square('9' - toRank, toFile - 'a' + 1);
+
+        int start = 0;
+        PieceType type = typeOfLetter(san.charAt(0));
+        if (type == null) type = PAWN;
+        else start = 1;
+
+        int fromFile = 0;
+        int fromRank = 0;
+        for (int index = start; index < end - 2; index++) {
+            char symbol = san.charAt(index);
+            if (symbol >= 'a' && symbol <= 'h') fromFile = symbol - 'a' + 1;
+            else if (symbol >= '1' && symbol <= '8') fromRank = '9' - symbol;
+            else if (symbol != 'x' && symbol != '-') throw invalid(san);
+        }
+
+        int found = Moves.NONE;
+        for (int index = 0; index < scratch.size(); index++) {
+            int move = scratch.get(index);
+            int from = Moves.from(move);
+            if (Moves.to(move) != to || typeOf(position.pieceAt(from)) != type) continue;
+            if (Moves.isPromotion(move) ? Moves.promotion(move) != promotion : promotion != null) continue;
+            if ((fromFile != 0 && fileOf(from) != fromFile) || (fromRank != 0 && rankOf(from) != fromRank)) continue;
+            if (found != Moves.NONE) throw invalid(san);
+            found = move;
+        }
+        if (found == Moves.NONE) throw invalid(san);
+        return found;
+    }
+
+    public static String toSan(BitBoard position, int move) {
+        return toSan(position, move, new MoveList());
+    }
+
+    public static String toSan(BitBoard position, int move, MoveList scratch) {
+        StringBuilder san = new StringBuilder(8);
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        PieceType type = typeOf(position.pieceAt(from));
+
+        if (Moves.flag(move) == Moves.CASTLE) {
+            san.append(fileOf(to) == 7 ? "O-O" : "O-O-O");
+        } else {
+            if (type != PAWN) {
+                san.append(LETTERS[type.ordinal()]);
+                appendDisambiguation(san, position, move, type, scratch);
+            } else if (Moves.isCapture(move)) {
+                san.append(fileLetter(from));
+            }
+            if (Moves.isCapture(move)) san.append('x');
+            san.append(fileLetter(to)).append(rankDigit(to));
+            if (Moves.isPromotion(move)) san.append('=').append(LETTERS[Moves.promotion(move).ordinal()]);
+        }
+
+        position.makeMove(move);
+        if (position.isInCheck(position.getSideToMove())) {
+            san.append(MoveGenerator.hasLegalMove(position, scratch) ? '+' : '#');
+        }
+        position.unmakeMove();
+        return san.toString();
+    }
+
+    private static void appendDisambiguation(StringBuilder san, BitBoard position, int move, PieceType type, MoveList scratch) {
+        int from = Moves.from(move);
+        boolean isAmbiguous = false;
+        boolean sharesFile = false;
+        boolean sharesRank = false;
+        MoveGenerator.generateLegalMoves(position, scratch);
+        for (int index = 0; index < scratch.size(); index++) {
+            int other = scratch.get(index);
+            int otherFrom = Moves.from(other);
+            if (otherFrom == from || Moves.to(other) != Moves.to(move) || typeOf(position.pieceAt(otherFrom)) != type) continue;
+            isAmbiguous = true;
+            if (fileOf(otherFrom) == fileOf(from)) sharesFile = true;
+            if (rankOf(otherFrom) == rankOf(from)) sharesRank = true;
+        }
+        if (!isAmbiguous) return;
+        if (!sharesFile) {
+            san.append(fileLetter(from));
+        } else if (!sharesRank) {
+            san.append(rankDigit(from));
+        } else {
+            san.append(fileLetter(from)).append(rankDigit(from));
+        }
+    }
+
+    static PieceType typeOfLetter(char letter) {
+        return switch (letter) {
+            case 'P' -> PAWN;
+            case 'N' -> KNIGHT;
+            case 'B' -> BISHOP;
+            case 'R' -> ROOK;
+            case 'Q' -> QUEEN;
+            case 'K' -> KING;
+            default -> null;
+        };
+    }
+
+    private static boolean isSuffix(char symbol) {
+        return symbol == '+' || symbol == '#' || symbol == '!' || symbol == '?';
+    }
+
+    private static char fileLetter(int square) {
+        return (char) ('a' + fileOf(square) - 1);
+    }
+
+    private static char rankDigit(int square) {
+        return (char) ('9' - rankOf(square));
+    }
+
+    private static InvalidMoveException invalid(CharSequence san) {
+        return new InvalidMoveException("Invalid move " + san);
+    }
+}
@@ -2,8 +2,9 @@ package game.pieces;
 
 import game.components.board.Board;
 import game.components.board.Floor;
-import game.gameExceptions.InvalidMoveException;
 import game.properties.Colour;
+import game.properties.MoveStatus;
+import game.properties.PieceType;
 import game.properties.Position;
 
 public class Knight extends Piece{
@@ -16,17 +17,15 @@ public class Knight extends Piece{
     }
 
     @Override
-    public void move(Floor destinationFloor, Board board) {
-        validateMoveDirection(destinationFloor);
-
-        if(destinationFloor.isOccupied()){
-            if(destinationFloor.getCurrentOccupant().getColour() != getColour())
-                capture(destinationFloor.getCurrentOccupant());
-            else
-                throw new InvalidMoveException("Invalid move");
-        }
+    public MoveStatus getMoveStatus(Floor destinationFloor, Board board) {
+        if(!isKnightJump(destinationFloor))
+            return MoveStatus.UNREACHABLE;
+        return statusOfDestination(destinationFloor);
+    }
 
-        updateFloorsStatus(destinationFloor);
+    @Override
+    public PieceType getType() {
+        return PieceType.KNIGHT;
     }
 
     @Override
@@ -37,15 +36,13 @@ public class Knight extends Piece{
             return "\u2658";
     }
 
-    private void validateMoveDirection(Floor destinationFloor) {
+    private boolean isKnightJump(Floor destinationFloor) {
         boolean isTwoSquaresFurtherVertically = Math.abs(destinationFloor.getRank() - getCurrentFloor().getRank()) == 2 &&
                 Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile()) == 1;
         boolean isOneSquareFurtherVertically = Math.abs(destinationFloor.getRank() - getCurrentFloor().getRank()) == 1 &&
                 Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile()) == 2;
 
-        if(!isOneSquareFurtherVertically && !isTwoSquaresFurtherVertically){
-            throw new InvalidMoveException("Invalid move");
-        }
+        return isOneSquareFurtherVertically || isTwoSquaresFurtherVertically;
     }
 
 }
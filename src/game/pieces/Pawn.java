@@ -4,6 +4,9 @@ import game.components.board.Board;
 import game.components.board.Floor;
 import game.gameExceptions.InvalidMoveException;
 import game.properties.Colour;
+import game.properties.Move;
+import game.properties.MoveStatus;
+import game.properties.PieceType;
 import game.properties.Position;
 
 import static game.properties.Colour.*;
@@ -22,78 +25,84 @@ public class Pawn extends Piece {
     }
 
     @Override
-    public void move(Floor destinationFloor, Board board) {
-        boolean oneStepMove = isOneStepMove(destinationFloor);
-        boolean twoStepMove = isTwoStepMove(destinationFloor);
-        boolean occupiedFloor = destinationFloor.getCurrentOccupant() != null;
-        boolean validMove = (hasMadeFirstMove && oneStepMove) || (!hasMadeFirstMove && (oneStepMove || twoStepMove))
-                && !occupiedFloor;
-
-        Piece enemy = null;
-        boolean validCaptureMove = false;
-        boolean matchingColours;
-
-        if(occupiedFloor) {
-            enemy = destinationFloor.getCurrentOccupant();
-            matchingColours = enemy.getColour() == getColour();
-            validCaptureMove = isValidCaptureMove(destinationFloor, matchingColours);
+    public MoveStatus getMoveStatus(Floor destinationFloor, Board board) {
+        int forward = getColour() == BLACK ? 1 : -1;
+        int rankDifference = destinationFloor.getRank() - getCurrentFloor().getRank();
+        int fileDifference = Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile());
+
+        if(fileDifference == 1 && rankDifference == forward) {
+            if(destinationFloor.getCurrentOccupant() == null)
+                return MoveStatus.UNREACHABLE;
+            return statusOfDestination(destinationFloor);
         }
-
-        validateMove(validCaptureMove, validMove);
-
-        if(!hasMadeFirstMove) {
-            hasMadeFirstMove = true;
-        }
-        if(validCaptureMove){
-            capture(enemy);
+        if(fileDifference != 0)
+            return MoveStatus.UNREACHABLE;
+        if(rankDifference == forward)
+            return destinationFloor.getCurrentOccupant() != null ? MoveStatus.OBSTRUCTED : MoveStatus.LEGAL;
+        if(rankDifference == 2 * forward && !hasMadeFirstMove) {
+            Floor floorInBetween = board.getFloor(getCurrentFloor().getRank() + forward, getCurrentFloor().getFile());
+            if(floorInBetween.getCurrentOccupant() != null || destinationFloor.getCurrentOccupant() != null)
+                return MoveStatus.OBSTRUCTED;
+            return MoveStatus.LEGAL;
         }
-        updateFloorsStatus(destinationFloor);
+        return MoveStatus.UNREACHABLE;
     }
 
-    private void validateMove(boolean validCaptureMove, boolean validMove) {
-        if(!validMove && !validCaptureMove) {
-            throw new InvalidMoveException("Invalid move");
-        }
+    @Override
+    protected void applyMove(Floor destinationFloor) {
+        super.applyMove(destinationFloor);
+        hasMadeFirstMove = true;
     }
 
-    private boolean isValidCaptureMove(Floor destinationFloor, boolean matchingColours) {
-        boolean validCaptureMove;
-        validCaptureMove = destinationFloor.getRank() - getCurrentFloor().getRank() == 1 &&
-                (Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile()) == 1)
-                && !matchingColours;
-        return validCaptureMove;
-    }
+    // The captured pawn is not on the destination floor, so it is taken off its own floor and restored there on undo.
+    public void captureEnPassant(Floor destinationFloor, Board board) {
+        int forward = getColour() == BLACK ? 1 : -1;
+        Floor victimFloor = board.getFloor(getCurrentFloor().getRank(), destinationFloor.getFile());
+        Piece victim = victimFloor.getCurrentOccupant();
+        if(destinationFloor.getCurrentOccupant() != null
+                || destinationFloor.getRank() - getCurrentFloor().getRank() != forward
+                || Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile()) != 1
+                || !(victim instanceof Pawn) || victim.getColour() == getColour() || !((Pawn) victim).hasJustMadeDoubleStep())
+            throw new InvalidMoveException("Invalid move");
 
-    private boolean isTwoStepMove(Floor destinationFloor) {
-        if(getColour() == BLACK) {
-            return (destinationFloor.getRank() - getCurrentFloor().getRank() == 2) &&
-                    (destinationFloor.getFile() - getCurrentFloor().getFile() == 0);
-        }else{
-            return (getCurrentFloor().getRank() - destinationFloor.getRank() == 2) &&
-                    (destinationFloor.getFile() - getCurrentFloor().getFile() == 0);
-        }
+        capture(victim);
+        victimFloor.setOccupant(null);
+        victimFloor.setOccupyStatus(false);
+        updateFloorsStatus(destinationFloor, victim);
+        hasMadeFirstMove = true;
     }
 
-    private boolean isOneStepMove(Floor destinationFloor) {
-        if(getColour() == BLACK) {
-            return (destinationFloor.getRank() - getCurrentFloor().getRank() == 1) &&
-                    (destinationFloor.getFile() - getCurrentFloor().getFile() == 0);
-        }else{
-            return (getCurrentFloor().getRank() - destinationFloor.getRank() == 1) &&
-                    (destinationFloor.getFile() - getCurrentFloor().getFile() == 0);
-        }
+    private boolean hasJustMadeDoubleStep() {
+        Move lastMove = getLastMove();
+        return lastMove != null && Math.abs(lastMove.getCurrentFloor().getRank() - lastMove.getPreviousFloor().getRank()) == 2;
     }
 
+    @Override
+    protected void reset(Floor floor) {
+        hasMadeFirstMove = false;
+        super.reset(floor);
+    }
 
+    @Override
     public boolean hasMadeFirstMove(){
         return hasMadeFirstMove;
     }
 
+    @Override
+    public void setHasMadeFirstMove(boolean hasMadeFirstMove) {
+        this.hasMadeFirstMove = hasMadeFirstMove;
+    }
+
     @Override
     public String toString() {
         return "Pawn\n" + super.toString();
     }
 
+    @Override
+    public PieceType getType() {
+        return PieceType.PAWN;
+    }
+
     @Override
     public String getPseudoName() {
         if(getColour() == Colour.BLACK)
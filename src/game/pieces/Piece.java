@@ -3,30 +3,32 @@ package game.pieces;
 import game.components.board.Board;
 import game.components.board.Floor;
 import game.gameExceptions.CapturedPieceQueryException;
+import game.gameExceptions.InvalidMoveException;
 import game.properties.Colour;
 import game.properties.Move;
+import game.properties.MoveStatus;
+import game.properties.PieceType;
 import game.properties.Position;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 public abstract class Piece {
 
     private final Colour colour;
-    private Position currentPosition;
-    private Stack<Move> moves = new Stack();
+    private final Deque<Move> moves = new ArrayDeque<>();
     private boolean isCaptured;
+    private boolean isFromPool;
     private Floor currentFloor;
 
     public Piece(Colour colour, Position defaultPosition) {
         this.colour = colour;
-        currentPosition = defaultPosition;
-        Floor floor = new Floor(currentPosition);
+        Floor floor = new Floor(defaultPosition);
         assignFloor(floor);
     }
 
     public Piece(Colour colour, Floor defaultFloor) {
         this.colour = colour;
-        currentPosition = new Position(defaultFloor.getFile(), defaultFloor.getRank());
         assignFloor(defaultFloor);
     }
 
@@ -40,7 +42,11 @@ public abstract class Piece {
     }
 
     public void updateFloorsStatus(Floor destinationFloor) {
-        Move move = new Move(getCurrentFloor(), destinationFloor);
+        updateFloorsStatus(destinationFloor, null);
+    }
+
+    protected void updateFloorsStatus(Floor destinationFloor, Piece capturedPiece) {
+        Move move = new Move(getCurrentFloor(), destinationFloor, capturedPiece, hasMadeFirstMove());
         addMove(move);
         getCurrentFloor().setOccupant(null);
         getCurrentFloor().setOccupyStatus(false);
@@ -56,7 +62,7 @@ public abstract class Piece {
     public Position getCurrentPosition() {
         if(isCaptured)
             throw new CapturedPieceQueryException("Captured piece cannot be invoked");
-        return currentPosition;
+        return new Position(currentFloor.getFile(), currentFloor.getRank());
     }
 
     public Floor getCurrentFloor() {
@@ -84,9 +90,66 @@ public abstract class Piece {
         getCurrentFloor().setOccupyStatus(false);
         Move lastMove = moves.pop();
         assignFloor(lastMove.getPreviousFloor());
+        setHasMadeFirstMove(lastMove.hadMadeFirstMove());
+        if(lastMove.getCapturedPiece() != null)
+            lastMove.getCapturedPiece().restore();
+    }
+
+    public void move(Floor destinationFloor, Board board) {
+        if(!tryMove(destinationFloor, board).isLegal())
+            throw new InvalidMoveException("Invalid move");
+    }
+
+    public MoveStatus tryMove(Floor destinationFloor, Board board) {
+        MoveStatus status = getMoveStatus(destinationFloor, board);
+        if(status.isLegal())
+            applyMove(destinationFloor);
+        return status;
+    }
+
+    public boolean isLegal(Floor destinationFloor, Board board) {
+        return getMoveStatus(destinationFloor, board).isLegal();
+    }
+
+    public abstract MoveStatus getMoveStatus(Floor destinationFloor, Board board);
+
+    protected void applyMove(Floor destinationFloor) {
+        Piece capturedPiece = destinationFloor.getCurrentOccupant();
+        if(capturedPiece != null)
+            capture(capturedPiece);
+        updateFloorsStatus(destinationFloor, capturedPiece);
+    }
+
+    protected MoveStatus statusOfDestination(Floor destinationFloor) {
+        Piece occupant = destinationFloor.getCurrentOccupant();
+        if(occupant != null && occupant.getColour() == getColour())
+            return MoveStatus.OCCUPIED_BY_OWN_PIECE;
+        return MoveStatus.LEGAL;
     }
 
-    public abstract void move(Floor destinationFloor, Board board);
+    // Puts a pooled piece back into play on the given floor as if it had just been created there.
+    protected void reset(Floor floor) {
+        moves.clear();
+        isCaptured = false;
+        assignFloor(floor);
+    }
+
+    // Pieces made by the pool are the only ones handed back to it; pieces made with new may still be held elsewhere, like in a set's piece lists.
+    boolean isFromPool() {
+        return isFromPool;
+    }
+
+    void markFromPool() {
+        isFromPool = true;
+    }
+
+    // Only pawns, rooks and kings care whether they have moved before; the others never have a first move to lose.
+    public boolean hasMadeFirstMove() {
+        return false;
+    }
+
+    public void setHasMadeFirstMove(boolean hasMadeFirstMove) {
+    }
 
     public boolean isCaptured(){
         return isCaptured;
@@ -102,6 +165,11 @@ public abstract class Piece {
         this.isCaptured = isCaptured;
     }
 
+    private void restore() {
+        setCapturedStatus(false);
+        assignFloor(currentFloor);
+    }
+
     @Override
     public String toString() {
         return  "" + colour + '\n' +
@@ -110,4 +178,6 @@ public abstract class Piece {
     }
 
     public abstract String getPseudoName();
+
+    public abstract PieceType getType();
 }
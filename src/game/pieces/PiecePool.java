@@ -0,0 +1,59 @@
+package game.pieces;
+
+import game.components.board.Floor;
+import game.pieces.king.King;
+import game.properties.Colour;
+
+import java.util.ArrayDeque;
+
+import static game.components.board.BitBoard.NUMBER_OF_PIECES;
+import static game.components.board.BitBoard.colourOf;
+import static game.components.board.BitBoard.pieceIndex;
+import static game.components.board.BitBoard.typeOf;
+
+// One pool per thread, so obtaining and releasing pieces needs no locking.
+public final class PiecePool {
+
+    private static final int CAPACITY = 64;
+    private static final ThreadLocal<PiecePool> POOLS = ThreadLocal.withInitial(PiecePool::new);
+
+    private final ArrayDeque<Piece>[] pieces;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PiecePool() {
+        pieces = new ArrayDeque[NUMBER_OF_PIECES];
+        for (int piece = 0; piece < NUMBER_OF_PIECES; piece++) {
+            pieces[piece] = new ArrayDeque<>(CAPACITY);
+        }
+    }
+
+    public static Piece obtain(int piece, Floor floor) {
+        Piece pooled = POOLS.get().pieces[piece].poll();
+        if (pooled == null) {
+            Piece created = create(colourOf(piece), piece, floor);
+            created.markFromPool();
+            return created;
+        }
+        pooled.reset(floor);
+        return pooled;
+    }
+
+    // The piece must already be off the board; it is reused by a later obtain on this thread.
+    // Pieces that were not obtained from a pool are left alone, since others may still refer to them.
+    public static void release(Piece piece) {
+        if (!piece.isFromPool()) return;
+        ArrayDeque<Piece> pool = POOLS.get().pieces[pieceIndex(piece)];
+        if (pool.size() < CAPACITY) pool.push(piece);
+    }
+
+    private static Piece create(Colour colour, int piece, Floor floor) {
+        return switch (typeOf(piece)) {
+            case PAWN -> new Pawn(colour, floor);
+            case KNIGHT -> new Knight(colour, floor);
+            case BISHOP -> new Bishop(colour, floor);
+            case ROOK -> new Rook(colour, floor);
+            case QUEEN -> new Queen(colour, floor);
+            case KING -> new King(colour, floor);
+        };
+    }
+}
@@ -1,43 +1,47 @@
 package game.pieces.king;
 
 import game.components.board.Board;
-import game.gameExceptions.ChessGameExceptions;
+import game.engine.GameStateEvaluator;
 import game.pieces.Piece;
 import game.pieces.Rook;
-import game.pieces.king.observers.KingObserver;
 import game.properties.Colour;
+import game.properties.GameState;
+import game.properties.MoveStatus;
+import game.properties.PieceType;
 import game.components.board.Floor;
 import game.gameExceptions.InvalidMoveException;
 
+import static game.components.board.BitBoard.*;
+
 public class King extends Piece {
 
     private boolean isChecked;
     private boolean hasMadeFirstMove;
     private boolean hasCastled;
-    private final KingObserver observer;
     private boolean isCheckMated;
+    private GameStateEvaluator evaluator;
 
     public King(Colour colour, Floor defaultFloor) {
 
         super(colour, defaultFloor);
-        observer = new KingObserver();
     }
 
     @Override
-    public void move(Floor destinationFloor, Board board) {
-        validateMove(destinationFloor);
+    public MoveStatus getMoveStatus(Floor destinationFloor, Board board) {
+        if(!isOneStepAway(destinationFloor))
+            return MoveStatus.UNREACHABLE;
+        return statusOfDestination(destinationFloor);
+    }
 
-        if (destinationFloor.isOccupied()) {
-            if (destinationFloor.getCurrentOccupant().getColour() == getColour()) {
-                throw new InvalidMoveException("Invalid move.");
-            }
-            capture(destinationFloor.getCurrentOccupant());
+    @Override
+    protected void applyMove(Floor destinationFloor) {
+        super.applyMove(destinationFloor);
+        hasMadeFirstMove = true;
+    }
 
-        }
-        if (!hasMadeFirstMove) {
-            hasMadeFirstMove = true;
-        }
-        updateFloorsStatus(destinationFloor);
+    @Override
+    public PieceType getType() {
+        return PieceType.KING;
     }
 
     @Override
@@ -48,7 +52,7 @@ public class King extends Piece {
             return "\u2654";
     }
 
-    private void validateMove(Floor destinationFloor) {
+    private boolean isOneStepAway(Floor destinationFloor) {
         boolean northAndSouth = Math.abs(destinationFloor.getRank() - getCurrentFloor().getRank()) == 1 &&
                 (destinationFloor.getFile() - getCurrentFloor().getFile() == 0);
         boolean eastAndWest = Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile()) == 1 &&
@@ -58,8 +62,7 @@ public class King extends Piece {
         int fileDifference = Math.abs(destinationFloor.getFile() - getCurrentFloor().getFile());
         boolean isDiagonalMove = (fileDifference == 1) && (rankDifference == 1);
 
-        if (!isDiagonalMove && !northAndSouth && !eastAndWest)
-            throw new InvalidMoveException("Invalid move");
+        return isDiagonalMove || northAndSouth || eastAndWest;
     }
 
 
@@ -75,14 +78,15 @@ public class King extends Piece {
             throw new InvalidMoveException("Invalid move");
         }
 
+        int rank = getCurrentFloor().getRank();
         if (queenSideCastle) {
-            Floor floor = board.getFloor(1, 3);
-            assignFloor(floor);
+            Floor floor = board.getFloor(rank, 3);
+            updateFloorsStatus(floor);
             int rookFloorFile = 4;
             rook.castle(rookFloorFile, board);
         } else if (kingSideCastle) {
-            Floor floor = board.getFloor(1, 7);
-            assignFloor(floor);
+            Floor floor = board.getFloor(rank, 7);
+            updateFloorsStatus(floor);
             int rookFloorFile = 6;
             rook.castle(rookFloorFile, board);
         }
@@ -92,20 +96,38 @@ public class King extends Piece {
 
     }
 
+    // Takes back a castling: the king and the rook return to their floors with their first-move flags as they were.
+    public void undoCastle(Rook rook) {
+        undoMove();
+        rook.undoCastle();
+        hasCastled = false;
+    }
+
+    @Override
+    protected void reset(Floor floor) {
+        isChecked = false;
+        hasMadeFirstMove = false;
+        hasCastled = false;
+        isCheckMated = false;
+        super.reset(floor);
+    }
+
+    @Override
     public boolean hasMadeFirstMove() {
         return hasMadeFirstMove;
     }
 
+    @Override
+    public void setHasMadeFirstMove(boolean hasMadeFirstMove) {
+        this.hasMadeFirstMove = hasMadeFirstMove;
+    }
+
     public boolean hasCastled() {
         return hasCastled;
     }
 
     public void scanForChecked(Board board) {
-        observer.scanForPawnCheck(board, this);
-        observer.scanForBishopCheck(board, this);
-        observer.scanForKnightCheck(board, this);
-        observer.scanForRookCheck(board, this);
-
+        isChecked = board.getBitBoard().isAttacked(square(getCurrentFloor()), opposite(getColour()));
     }
 
     public void setChecked(boolean isChecked) {
@@ -117,164 +139,8 @@ public class King extends Piece {
     }
 
     public void counterCheckMove(Board board){
-        int rank = getCurrentFloor().getRank();
-        int file = getCurrentFloor().getFile();
-
-        if(isChecked()) {
-            if (file == 8 && (rank > 1 && rank < 8)) {
-                scanForRightSideCheckMate(board, rank, file);
-            } else if (file == 1 && (rank > 1 && rank < 8)) {
-                scanForLeftSideCheckMate(board, rank, file);
-
-            } else if (rank == 8 && (file > 1 && file < 8)) {
-                scanForTopSideCheckMate(board, rank, file);
-            }else if (rank == 1 && (file > 1 && file < 8)) {
-                scanForDownSideCheckMate(board, rank, file);
-            }else if(rank == 8 && file == 8){
-                scanForTopRightEdgeCheckMate(board, rank, file);
-            }else if(rank == 1 && file == 1){
-                scanForBottomLeftEdgeCheckMate(board, rank, file);
-            }else if(rank == 8 && file == 1){
-                scanForTopLeftEdgeCheckMate(board, rank, file);
-            }else if(rank == 1 && file == 8){
-                scanForBottomRightEdgeCheckMate(board, rank, file);
-            }else scanForCentreBoardCheckMate(board, rank, file);
-        }
-    }
-
-    private void scanForDownSideCheckMate(Board board, int rank, int file) {
-        Floor[] downSidePositionValidFloors = {board.getFloor(rank, file + 1), board.getFloor(rank + 1, file + 1),
-                board.getFloor(rank + 1, file), board.getFloor(rank + 1, file - 1),
-                board.getFloor(rank, file - 1)};
-        for (int i = 0; i < downSidePositionValidFloors.length; i++) {
-            try {
-                move(downSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForTopSideCheckMate(Board board, int rank, int file) {
-        Floor[] topSidePositionValidFloors = {board.getFloor(rank, file + 1), board.getFloor(rank - 1, file + 1),
-                board.getFloor(rank - 1, file), board.getFloor(rank - 1, file - 1),
-                board.getFloor(rank, file - 1)};
-        for (int i = 0; i < topSidePositionValidFloors.length; i++) {
-            try {
-                move(topSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForLeftSideCheckMate(Board board, int rank, int file) {
-        Floor[] leftSidePositionValidFloors = {board.getFloor(rank + 1, file), board.getFloor(rank + 1, file + 1),
-                board.getFloor(rank, file + 1), board.getFloor(rank - 1, file + 1),
-                board.getFloor(rank - 1, file)};
-        for (int i = 0; i < leftSidePositionValidFloors.length; i++) {
-            try {
-                move(leftSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForRightSideCheckMate(Board board, int rank, int file) {
-        Floor[] rightSidePositionValidFloors = {board.getFloor(rank + 1, file), board.getFloor(rank + 1, file - 1),
-                board.getFloor(rank, file - 1), board.getFloor(rank - 1, file - 1),
-                board.getFloor(rank - 1, file)};
-        for (int i = 0; i < rightSidePositionValidFloors.length; i++) {
-            try {
-                move(rightSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForTopRightEdgeCheckMate(Board board, int rank, int file) {
-        Floor[] rightSidePositionValidFloors = {board.getFloor(rank, file - 1), board.getFloor(rank - 1, file - 1),
-                board.getFloor(rank - 1, file)};
-        for (int i = 0; i < rightSidePositionValidFloors.length; i++) {
-            try {
-                move(rightSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForBottomLeftEdgeCheckMate(Board board, int rank, int file) {
-        Floor[] rightSidePositionValidFloors = {board.getFloor(rank, file + 1), board.getFloor(rank + 1, file + 1),
-                board.getFloor(rank + 1, file)};
-        for (int i = 0; i < rightSidePositionValidFloors.length; i++) {
-            try {
-                move(rightSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
+        if(!isChecked()) return;
+        if (evaluator == null) evaluator = new GameStateEvaluator();
+        isCheckMated = evaluator.evaluate(board.getBitBoard(), getColour()) == GameState.CHECKMATE;
     }
-
-    private void scanForTopLeftEdgeCheckMate(Board board, int rank, int file) {
-        Floor[] rightSidePositionValidFloors = {board.getFloor(rank, file + 1), board.getFloor(rank - 1, file + 1),
-                board.getFloor(rank - 1, file)};
-        for (int i = 0; i < rightSidePositionValidFloors.length; i++) {
-            try {
-                move(rightSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForBottomRightEdgeCheckMate(Board board, int rank, int file) {
-        Floor[] rightSidePositionValidFloors = {board.getFloor(rank, file - 1), board.getFloor(rank + 1, file - 1),
-                board.getFloor(rank + 1, file)};
-        for (int i = 0; i < rightSidePositionValidFloors.length; i++) {
-            try {
-                move(rightSidePositionValidFloors[i], board);
-                scanForChecked(board);
-                if (isChecked()) undoMove();
-                else break;
-            } catch (ChessGameExceptions ignored) {
-            }
-        }
-        if (isChecked()) isCheckMated = true;
-    }
-
-    private void scanForCentreBoardCheckMate(Board board, int rank, int file){
-        scanForTopSideCheckMate(board, rank, file);
-        scanForDownSideCheckMate(board, rank, file);
-        if (isChecked()) isCheckMated = true;
-
-    }
-
-
 }
-
-
-
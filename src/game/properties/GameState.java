@@ -0,0 +1,9 @@
+package game.properties;
+
+public enum GameState {
+    IN_PROGRESS, CHECK, CHECKMATE, STALEMATE, INSUFFICIENT_MATERIAL;
+
+    public boolean isOver() {
+        return this == CHECKMATE || this == STALEMATE || this == INSUFFICIENT_MATERIAL;
+    }
+}
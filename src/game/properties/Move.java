@@ -1,19 +1,34 @@
 package game.properties;
 
 import game.components.board.Floor;
+import game.pieces.Piece;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Objects;
 
 public class Move {
     private final Floor previousFloor;
     private final Floor currentFloor;
-    private final LocalDateTime timeStamp;
+    private final Piece capturedPiece;
+    private final boolean hadMadeFirstMove;
+    private final long timeStamp;
 
     public Move(Floor previousFloor, Floor currentFloor) {
+        this(previousFloor, currentFloor, null);
+    }
+
+    public Move(Floor previousFloor, Floor currentFloor, Piece capturedPiece) {
+        this(previousFloor, currentFloor, capturedPiece, false);
+    }
+
+    public Move(Floor previousFloor, Floor currentFloor, Piece capturedPiece, boolean hadMadeFirstMove) {
         this.previousFloor = previousFloor;
         this.currentFloor = currentFloor;
-        timeStamp = LocalDateTime.now();
+        this.capturedPiece = capturedPiece;
+        this.hadMadeFirstMove = hadMadeFirstMove;
+        timeStamp = System.currentTimeMillis();
     }
 
     @Override
@@ -33,7 +48,20 @@ public class Move {
         return previousFloor;
     }
 
+    public Floor getCurrentFloor() {
+        return currentFloor;
+    }
+
+    public Piece getCapturedPiece() {
+        return capturedPiece;
+    }
+
+    // Whether the piece had already moved before this move, so undo can give a pawn its double step or a king its castling back.
+    public boolean hadMadeFirstMove() {
+        return hadMadeFirstMove;
+    }
+
     public LocalDateTime getTimeStamp() {
-        return timeStamp;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timeStamp), ZoneId.systemDefault());
     }
 }
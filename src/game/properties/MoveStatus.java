@@ -0,0 +1,9 @@
+package game.properties;
+
+public enum MoveStatus {
+    LEGAL, UNREACHABLE, OBSTRUCTED, OCCUPIED_BY_OWN_PIECE;
+
+    public boolean isLegal() {
+        return this == LEGAL;
+    }
+}
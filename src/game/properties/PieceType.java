@@ -0,0 +1,5 @@
+package game.properties;
+
+public enum PieceType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING;
+}
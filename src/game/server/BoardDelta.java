@@ -0,0 +1,128 @@
+package game.server;
+
+import game.components.board.BitBoard;
+import game.engine.Moves;
+import game.properties.GameState;
+import game.properties.PieceType;
+
+import static game.components.board.BitBoard.EMPTY;
+import static game.components.board.BitBoard.fileOf;
+import static game.components.board.BitBoard.rankOf;
+import static game.components.board.BitBoard.square;
+
+// The squares one move changes, so spectators can follow a game without the board being rendered or sent again.
+// On the wire: DELTA <id> <ply> <from> <to> <captured> <promotion> <rook from and to> <state>, with - for whatever did not happen.
+public final class BoardDelta {
+
+    private static final String NONE = "-";
+
+    private final long gameId;
+    private final int ply;
+    private final int from;
+    private final int to;
+    private final int captured;
+    private final PieceType promotion;
+    private final int rookFrom;
+    private final int rookTo;
+    private final GameState state;
+
+    public BoardDelta(long gameId, int ply, int from, int to, int captured, PieceType promotion, int rookFrom, int rookTo, GameState state) {
+        this.gameId = gameId;
+        this.ply = ply;
+        this.from = from;
+        this.to = to;
+        this.captured = captured;
+        this.promotion = promotion;
+        this.rookFrom = rookFrom;
+        this.rookTo = rookTo;
+        this.state = state;
+    }
+
+    public static BoardDelta of(MoveResult result) {
+        int move = result.getMove();
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int flag = Moves.flag(move);
+        int captured = flag == Moves.EN_PASSANT ? square(rankOf(from), fileOf(to)) : Moves.isCapture(move) ? to : EMPTY;
+        int rookFrom = EMPTY;
+        int rookTo = EMPTY;
+        if (flag == Moves.CASTLE) {
+            boolean isKingSide = fileOf(to) > fileOf(from);
+            rookFrom = square(rankOf(from), isKingSide ? 8 : 1);
+            rookTo = square(rankOf(from), isKingSide ? 6 : 4);
+        }
+        return new BoardDelta(result.getGameId(), result.getPly(), from, to, captured, Moves.promotion(move), rookFrom, rookTo, result.getState());
+    }
+
+    public static BoardDelta parse(String line) {
+        String[] words = line.split(" ");
+        if (words.length != 9 || !words[0].equals("DELTA")) throw new IllegalArgumentException("Not a delta: " + line);
+        boolean isCastle = !words[7].equals(NONE);
+        return new BoardDelta(Long.parseLong(words[1]), Integer.parseInt(words[2]),
+                Moves.parseSquare(words[3], 0), Moves.parseSquare(words[4], 0),
+                words[5].equals(NONE) ? EMPTY : Moves.parseSquare(words[5], 0),
+                words[6].equals(NONE) ? null : PieceType.valueOf(words[6]),
+                isCastle ? Moves.parseSquare(words[7], 0) : EMPTY, isCastle ? Moves.parseSquare(words[7], 2) : EMPTY,
+                GameState.valueOf(words[8]));
+    }
+
+    // The move as the engine encodes it, worked out from the delta and the position it is played in.
+    public int toMove(BitBoard position) {
+        boolean isCapture = captured != EMPTY;
+        if (promotion != null) return Moves.encodePromotion(from, to, promotion, isCapture);
+        int flag = Moves.NORMAL;
+        if (rookFrom != EMPTY) flag = Moves.CASTLE;
+        else if (isCapture && captured != to) flag = Moves.EN_PASSANT;
+        else if (BitBoard.typeOf(position.pieceAt(from)) == PieceType.PAWN && Math.abs(rankOf(to) - rankOf(from)) == 2) flag = Moves.DOUBLE_PUSH;
+        return Moves.encode(from, to, flag, isCapture);
+    }
+
+    public void applyTo(BitBoard position) {
+        position.makeMove(toMove(position));
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public int getCaptured() {
+        return captured;
+    }
+
+    public PieceType getPromotion() {
+        return promotion;
+    }
+
+    public int getRookFrom() {
+        return rookFrom;
+    }
+
+    public int getRookTo() {
+        return rookTo;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "DELTA " + gameId + " " + ply + " " + Moves.squareName(from) + " " + Moves.squareName(to)
+                + " " + (captured == EMPTY ? NONE : Moves.squareName(captured))
+                + " " + (promotion == null ? NONE : promotion.name())
+                + " " + (rookFrom == EMPTY ? NONE : Moves.squareName(rookFrom) + Moves.squareName(rookTo))
+                + " " + state;
+    }
+}
@@ -0,0 +1,95 @@
+package game.server;
+
+import game.components.board.BitBoard;
+import game.notation.Fen;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+// Blocking client for GameServer. Replies are matched to requests in order, and deltas that arrive in between are kept for nextEvent.
+// Every watched game has a board here that starts from the snapshot sent on joining and is brought up to date by each delta.
+public class GameClient implements Closeable {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final Queue<String> events = new ArrayDeque<>();
+    private final Map<Long, BitBoard> watched = new HashMap<>();
+
+    public GameClient(int port) throws IOException {
+        this(InetAddress.getLoopbackAddress().getHostAddress(), port);
+    }
+
+    public GameClient(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    public long createGame(String white, String black) throws IOException {
+        return Long.parseLong(expect(request("NEW " + white + " " + black), "GAME", 2)[1]);
+    }
+
+    // The reply line, either OK <id> <ply> <san> <state> or ERR <message>.
+    public String submitMove(long gameId, String san) throws IOException {
+        return request("MOVE " + gameId + " " + san);
+    }
+
+    public String getState(long gameId) throws IOException {
+        return request("STATE " + gameId);
+    }
+
+    // Joins the game's feed and returns its current position.
+    public BitBoard watch(long gameId) throws IOException {
+        String[] words = expect(request("WATCH " + gameId), "WATCHING", 4);
+        BitBoard position = Fen.toBitBoard(words[3]);
+        watched.put(gameId, position);
+        return position;
+    }
+
+    public BitBoard getBoard(long gameId) {
+        return watched.get(gameId);
+    }
+
+    public String request(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+        String reply;
+        while ((reply = readLine()).startsWith("DELTA ")) events.add(reply);
+        return reply;
+    }
+
+    // The next delta for a watched game, waiting for one to arrive if none are queued. It has already been applied to the game's board.
+    public BoardDelta nextEvent() throws IOException {
+        String event = events.poll();
+        BoardDelta delta = BoardDelta.parse(event != null ? event : readLine());
+        BitBoard position = watched.get(delta.getGameId());
+        if (position != null) delta.applyTo(position);
+        return delta;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) throw new EOFException("Server closed the connection");
+        return line;
+    }
+
+    private static String[] expect(String reply, String word, int count) throws IOException {
+        String[] words = reply.split(" ", count);
+        if (!words[0].equals(word)) throw new IOException(reply);
+        return words;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,113 @@
+package game.server;
+
+import game.components.board.PositionSnapshot;
+import game.gameExceptions.GameNotFoundException;
+import game.properties.GameState;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Hosts many games at once. Each game has its own lane, so its Set is only touched by one thread at a time while games run in parallel.
+public class GameHost implements AutoCloseable {
+
+    private final Map<Long, Entry> games = new ConcurrentHashMap<>();
+    private final AtomicLong gameIds = new AtomicLong();
+    private final AtomicInteger playerIds = new AtomicInteger();
+    private final GameHostMetrics metrics = new GameHostMetrics();
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    public GameHost() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public GameHost(int threads) {
+        AtomicInteger threadIds = new AtomicInteger();
+        ownedExecutor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "game-host-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = ownedExecutor;
+    }
+
+    // Runs the lanes on an executor owned by the caller, which is left running on close.
+    public GameHost(Executor executor) {
+        this.executor = executor;
+        ownedExecutor = null;
+    }
+
+    public long createGame(String white, String black) {
+        long id = gameIds.incrementAndGet();
+        Entry entry = new Entry(new GameLane(executor));
+        games.put(id, entry);
+        metrics.recordGameCreated();
+        entry.lane.execute(() -> entry.game = new HostedGame(id, white, black, playerIds));
+        return id;
+    }
+
+    public CompletableFuture<MoveResult> submitMove(long gameId, String san) {
+        long submitted = System.nanoTime();
+        CompletableFuture<MoveResult> result = onGame(gameId, game -> game.play(san));
+        return result.whenComplete((move, failure) -> metrics.recordMove(System.nanoTime() - submitted, failure == null));
+    }
+
+    public CompletableFuture<PositionSnapshot> snapshot(long gameId) {
+        return onGame(gameId, HostedGame::snapshot);
+    }
+
+    public CompletableFuture<GameState> getState(long gameId) {
+        return onGame(gameId, HostedGame::getState);
+    }
+
+    public CompletableFuture<String> getFen(long gameId) {
+        return onGame(gameId, game -> game.getSet().toFen());
+    }
+
+    public boolean endGame(long gameId) {
+        if (games.remove(gameId) == null) return false;
+        metrics.recordGameEnded();
+        return true;
+    }
+
+    public int getGameCount() {
+        return games.size();
+    }
+
+    public GameHostMetrics getMetrics() {
+        return metrics;
+    }
+
+    private <T> CompletableFuture<T> onGame(long gameId, Function<HostedGame, T> action) {
+        Entry entry = games.get(gameId);
+        if (entry == null) return CompletableFuture.failedFuture(new GameNotFoundException("No game with id " + gameId));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        entry.lane.execute(() -> {
+            try {
+                result.complete(action.apply(entry.game));
+            } catch (RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+        games.clear();
+        if (ownedExecutor != null) ownedExecutor.shutdown();
+    }
+
+    // The game is created on its lane, so the field is written and read by lane tasks only.
+    private static class Entry {
+        private final GameLane lane;
+        private HostedGame game;
+
+        private Entry(GameLane lane) {
+            this.lane = lane;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package game.server;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters are striped so that lanes on many threads can record without contending on one field.
+public class GameHostMetrics {
+
+    private static final int BUCKETS = 64;
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder gamesCreated = new LongAdder();
+    private final LongAdder gamesEnded = new LongAdder();
+    private final LongAdder movesPlayed = new LongAdder();
+    private final LongAdder movesRejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    // Bucket b counts latencies below 2^b nanoseconds and at least 2^(b-1).
+    private final LongAdder[] latencyBuckets = new LongAdder[BUCKETS];
+
+    public GameHostMetrics() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            latencyBuckets[bucket] = new LongAdder();
+        }
+    }
+
+    void recordGameCreated() {
+        gamesCreated.increment();
+    }
+
+    void recordGameEnded() {
+        gamesEnded.increment();
+    }
+
+    void recordMove(long latencyNanos, boolean isPlayed) {
+        if (isPlayed) movesPlayed.increment();
+        else movesRejected.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        latencyBuckets[64 - Long.numberOfLeadingZeros(Math.max(latencyNanos, 0))].increment();
+    }
+
+    public long getGamesCreated() {
+        return gamesCreated.sum();
+    }
+
+    public long getActiveGames() {
+        return gamesCreated.sum() - gamesEnded.sum();
+    }
+
+    public long getMovesPlayed() {
+        return movesPlayed.sum();
+    }
+
+    public long getMovesRejected() {
+        return movesRejected.sum();
+    }
+
+    public long getMovesPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed == 0 ? 0 : getMovesPlayed() * 1_000_000_000L / elapsed;
+    }
+
+    public long getMeanLatencyNanos() {
+        long moves = movesPlayed.sum() + movesRejected.sum();
+        return moves == 0 ? 0 : totalLatencyNanos.sum() / moves;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    // Upper bound of the power-of-two bucket holding the given percentile, so within a factor of two.
+    public long getLatencyPercentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = latencyBuckets[bucket].sum();
+            total += counts[bucket];
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) return bucket == 63 ? Long.MAX_VALUE : 1L << bucket;
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "games " + getActiveGames() + " moves " + getMovesPlayed() + " rejected " + getMovesRejected()
+                + " moves/second " + getMovesPerSecond() + " mean " + getMeanLatencyNanos() / 1000 + " us"
+                + " p99 " + getLatencyPercentileNanos(99) / 1000 + " us max " + getMaxLatencyNanos() / 1000 + " us";
+    }
+}
@@ -0,0 +1,43 @@
+package game.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Runs the tasks of one game one at a time and in order on a shared executor, so game state is only ever touched by one thread at a time.
+class GameLane implements Executor {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    GameLane(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) executor.execute(this::drain);
+    }
+
+    // Gives the thread back after a batch so one busy game cannot starve the others.
+    private void drain() {
+        try {
+            Runnable task;
+            for (int count = 0; count < BATCH_SIZE && (task = tasks.poll()) != null; count++) {
+                task.run();
+            }
+        } finally {
+            isScheduled.set(false);
+            if (!tasks.isEmpty()) schedule();
+        }
+    }
+}
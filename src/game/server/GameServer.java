@@ -0,0 +1,328 @@
+package game.server;
+
+import game.components.board.PositionSnapshot;
+import game.properties.Colour;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+// Serves games over a line protocol on one selector thread. Requests and replies are single lines of space separated words:
+//   NEW <white> <black>   ->  GAME <id>
+//   MOVE <id> <san>       ->  OK <id> <ply> <san> <state>
+//   STATE <id>            ->  STATE <id> <state> <fen>
+//   WATCH <id>            ->  WATCHING <id> <ply> <fen>, then a BoardDelta line after every move in the game
+//   anything that fails   ->  ERR <message>
+public class GameServer implements Runnable, Closeable {
+
+    public static final int DEFAULT_MAX_QUEUED_BYTES = 1 << 20;
+
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final GameHost host;
+    private final int maxQueuedBytes;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    // Work handed over from game lanes, run on the selector thread so connections are never shared between threads.
+    private final Queue<Runnable> completions = new ConcurrentLinkedQueue<>();
+    private final Map<Long, List<Connection>> watchers = new HashMap<>();
+    private final List<Connection> pendingWrites = new ArrayList<>();
+    private final Thread thread;
+    private volatile boolean isRunning = true;
+    private volatile long broadcasts;
+    private volatile long broadcastDeliveries;
+
+    public GameServer(GameHost host, int port) throws IOException {
+        this(host, port, DEFAULT_MAX_QUEUED_BYTES);
+    }
+
+    // A client whose unsent replies and deltas grow past maxQueuedBytes is disconnected rather than buffered for without end.
+    public GameServer(GameHost host, int port, int maxQueuedBytes) throws IOException {
+        this.host = host;
+        this.maxQueuedBytes = maxQueuedBytes;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        thread = new Thread(this, "game-server");
+        thread.setDaemon(true);
+    }
+
+    public GameServer start() {
+        thread.start();
+        return this;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    // Moves whose delta has been built; each is serialized once however many watchers it goes to.
+    public long getBroadcasts() {
+        return broadcasts;
+    }
+
+    public long getBroadcastDeliveries() {
+        return broadcastDeliveries;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (isRunning) {
+                selector.select();
+                Runnable completion;
+                while ((completion = completions.poll()) != null) completion.run();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) accept();
+                    else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) connection.read();
+                        if (key.isValid() && key.isWritable()) connection.flush();
+                    }
+                }
+                flushPendingWrites();
+            }
+        } catch (IOException exception) {
+            if (isRunning) throw new UncheckedIOException(exception);
+        } catch (ClosedSelectorException exception) {
+            // closed while selecting
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) return;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    // Writes are gathered per connection and sent once per pass of the selector loop.
+    private void flushPendingWrites() {
+        for (Connection connection : pendingWrites) connection.flush();
+        pendingWrites.clear();
+    }
+
+    private void handle(Connection connection, String line) {
+        String[] words = line.trim().split(" +");
+        try {
+            switch (words[0]) {
+                case "NEW":
+                    requireWords(words, 3);
+                    connection.send("GAME " + host.createGame(words[1], words[2]));
+                    break;
+                case "MOVE":
+                    requireWords(words, 3);
+                    long gameId = gameId(words[1]);
+                    whenDone(connection, host.submitMove(gameId, words[2]), result -> {
+                        connection.send("OK " + result);
+                        broadcast(result);
+                    });
+                    break;
+                case "STATE":
+                    requireWords(words, 2);
+                    long stateGameId = gameId(words[1]);
+                    whenDone(connection, host.getState(stateGameId).thenCombine(host.getFen(stateGameId),
+                            (state, fen) -> "STATE " + stateGameId + " " + state + " " + fen), connection::send);
+                    break;
+                case "WATCH":
+                    requireWords(words, 2);
+                    long watchedGameId = gameId(words[1]);
+                    // Taken on the game's lane, so the snapshot sits exactly between the deltas before and after it.
+                    whenDone(connection, host.snapshot(watchedGameId), snapshot -> {
+                        // Watching a game twice only sends the snapshot again; its deltas still go out once.
+                        if (connection.watched.add(watchedGameId)) {
+                            watchers.computeIfAbsent(watchedGameId, id -> new ArrayList<>()).add(connection);
+                        }
+                        connection.send("WATCHING " + watchedGameId + " " + plyOf(snapshot) + " " + snapshot);
+                    });
+                    break;
+                default:
+                    connection.send("ERR Unknown command " + words[0]);
+            }
+        } catch (IllegalArgumentException exception) {
+            connection.send("ERR " + exception.getMessage());
+        }
+    }
+
+    private static void requireWords(String[] words, int count) {
+        if (words.length != count) throw new IllegalArgumentException("Expected " + (count - 1) + " arguments to " + words[0]);
+    }
+
+    private static long gameId(String word) {
+        try {
+            return Long.parseLong(word);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid game id " + word);
+        }
+    }
+
+    private <T> void whenDone(Connection connection, CompletableFuture<T> future, Consumer<T> onResult) {
+        future.whenComplete((result, failure) -> {
+            completions.add(() -> {
+                if (failure == null) onResult.accept(result);
+                else connection.send("ERR " + messageOf(failure));
+            });
+            selector.wakeup();
+        });
+    }
+
+    // Hosted games always start from the standard position, so the ply follows from the move number.
+    private static int plyOf(PositionSnapshot snapshot) {
+        return 2 * (snapshot.getFullMoveNumber() - 1) + (snapshot.getSideToMove() == Colour.BLACK ? 1 : 0);
+    }
+
+    private static String messageOf(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+    }
+
+    // One move fans out to every watcher from a single encoded buffer; each watcher only gets its own read-only view of it.
+    private void broadcast(MoveResult result) {
+        List<Connection> gameWatchers = watchers.get(result.getGameId());
+        if (gameWatchers == null || gameWatchers.isEmpty()) return;
+        ByteBuffer line = encode(BoardDelta.of(result).toString()).asReadOnlyBuffer();
+        broadcasts++;
+        for (Connection watcher : gameWatchers) watcher.enqueue(line.duplicate());
+        broadcastDeliveries += gameWatchers.size();
+    }
+
+    private static ByteBuffer encode(String line) {
+        return ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        isRunning = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) key.channel().close();
+        selector.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7878;
+        GameServer server = new GameServer(new GameHost(), port);
+        System.out.println("Serving games on port " + server.getPort());
+        server.run();
+    }
+
+    private class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(4096);
+        // Lines are kept as bytes and decoded once whole, so a character split across reads is not broken.
+        private final byte[] line = new byte[MAX_LINE_LENGTH];
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        private final Set<Long> watched = new HashSet<>();
+        private SelectionKey key;
+        private int lineLength;
+        private boolean isDiscardingLine;
+        private long queuedBytes;
+        private boolean isOverflowing;
+        private boolean isQueued;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void read() {
+            try {
+                if (channel.read(input) < 0) {
+                    disconnect();
+                    return;
+                }
+            } catch (IOException exception) {
+                disconnect();
+                return;
+            }
+            input.flip();
+            while (input.hasRemaining()) {
+                byte next = input.get();
+                if (next == '\n') {
+                    if (lineLength > 0 && !isDiscardingLine) handle(this, new String(line, 0, lineLength, StandardCharsets.UTF_8));
+                    lineLength = 0;
+                    isDiscardingLine = false;
+                } else if (next != '\r' && !isDiscardingLine) {
+                    // The rest of a line that is too long is thrown away rather than read as a request of its own.
+                    if (lineLength == MAX_LINE_LENGTH) {
+                        send("ERR Line too long");
+                        lineLength = 0;
+                        isDiscardingLine = true;
+                    } else {
+                        line[lineLength++] = next;
+                    }
+                }
+            }
+            input.clear();
+        }
+
+        private void send(String reply) {
+            enqueue(encode(reply));
+        }
+
+        // Going over the limit only marks the connection; it is dropped on its next flush, so watcher lists are not changed mid broadcast.
+        private void enqueue(ByteBuffer buffer) {
+            if (!key.isValid() || isOverflowing) return;
+            queuedBytes += buffer.remaining();
+            if (queuedBytes > maxQueuedBytes) isOverflowing = true;
+            else output.add(buffer);
+            if (!isQueued) {
+                isQueued = true;
+                pendingWrites.add(this);
+            }
+        }
+
+        private void flush() {
+            isQueued = false;
+            if (!key.isValid()) return;
+            if (isOverflowing) {
+                disconnect();
+                return;
+            }
+            try {
+                queuedBytes -= channel.write(output.toArray(new ByteBuffer[0]));
+            } catch (IOException exception) {
+                disconnect();
+                return;
+            }
+            while (!output.isEmpty() && !output.peek().hasRemaining()) output.poll();
+            key.interestOps(output.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        private void disconnect() {
+            for (long gameId : watched) {
+                List<Connection> gameWatchers = watchers.get(gameId);
+                if (gameWatchers != null) gameWatchers.remove(this);
+            }
+            output.clear();
+            queuedBytes = 0;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException exception) {
+                // already gone
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package game.server;
+
+import game.gameExceptions.InvalidMoveException;
+import game.properties.GameState;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A game with its own thread that blocks while waiting for the next move. On virtual threads an idle session costs little more than its heap.
+public class GameSession implements Runnable {
+
+    private static final PendingMove CLOSE = new PendingMove(null, null, 0);
+
+    private final HostedGame game;
+    private final GameHostMetrics metrics;
+    private final BlockingQueue<PendingMove> inbox = new LinkedBlockingQueue<>();
+    private volatile boolean isClosed;
+    private volatile GameState state = GameState.IN_PROGRESS;
+
+    GameSession(long id, String white, String black, AtomicInteger playerIds, GameHostMetrics metrics) {
+        game = new HostedGame(id, white, black, playerIds);
+        this.metrics = metrics;
+    }
+
+    public CompletableFuture<MoveResult> submitMove(String san) {
+        CompletableFuture<MoveResult> result = new CompletableFuture<>();
+        if (isClosed) {
+            result.completeExceptionally(closed());
+            return result;
+        }
+        PendingMove pending = new PendingMove(san, result, System.nanoTime());
+        inbox.add(pending);
+        // The session may have closed and drained its inbox for the last time after the check above; whoever takes the move out fails it.
+        if (isClosed && inbox.remove(pending)) result.completeExceptionally(closed());
+        return result;
+    }
+
+    @Override
+    public void run() {
+        try {
+            PendingMove pending;
+            while ((pending = inbox.take()) != CLOSE) {
+                try {
+                    MoveResult result = game.play(pending.san);
+                    state = result.getState();
+                    metrics.recordMove(System.nanoTime() - pending.submitted, true);
+                    pending.result.complete(result);
+                } catch (RuntimeException exception) {
+                    metrics.recordMove(System.nanoTime() - pending.submitted, false);
+                    pending.result.completeExceptionally(exception);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            isClosed = true;
+            PendingMove pending;
+            while ((pending = inbox.poll()) != null) {
+                if (pending != CLOSE) pending.result.completeExceptionally(closed());
+            }
+        }
+    }
+
+    public void close() {
+        isClosed = true;
+        inbox.add(CLOSE);
+    }
+
+    private static InvalidMoveException closed() {
+        return new InvalidMoveException("Invalid move. Session is closed");
+    }
+
+    public long getId() {
+        return game.getId();
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    private static class PendingMove {
+        private final String san;
+        private final CompletableFuture<MoveResult> result;
+        private final long submitted;
+
+        private PendingMove(String san, CompletableFuture<MoveResult> result, long submitted) {
+            this.san = san;
+            this.result = result;
+            this.submitted = submitted;
+        }
+    }
+}
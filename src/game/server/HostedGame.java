@@ -0,0 +1,61 @@
+package game.server;
+
+import game.components.Game;
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.PositionSnapshot;
+import game.engine.GameStateEvaluator;
+import game.engine.MoveList;
+import game.gameExceptions.InvalidMoveException;
+import game.notation.San;
+import game.properties.GameState;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+
+// Only ever used from its game's lane, so nothing here needs to be thread safe.
+class HostedGame {
+
+    private final long id;
+    private final Set set;
+    private final BitBoard position;
+    private final GameStateEvaluator evaluator = new GameStateEvaluator();
+    private final MoveList scratch = new MoveList();
+    private GameState state = GameState.IN_PROGRESS;
+
+    HostedGame(long id, String white, String black, AtomicInteger playerIds) {
+        this.id = id;
+        set = new Set(new Player(white, WHITE, playerIds.incrementAndGet()), new Player(black, BLACK, playerIds.incrementAndGet()));
+        new Game().setUp(set);
+        position = BitBoard.of(set.getBoard(), WHITE);
+    }
+
+    MoveResult play(String san) {
+        if (state.isOver()) throw new InvalidMoveException("Invalid move. Game is over");
+        int move = San.toMove(position, san, scratch);
+        String normalised = San.toSan(position, move, scratch);
+        set.getPlayerToMove().makeMove(set.getBoard(), move);
+        position.makeMove(move);
+        state = evaluator.evaluate(position);
+        return new MoveResult(id, position.getPly(), move, normalised, state);
+    }
+
+    PositionSnapshot snapshot() {
+        return PositionSnapshot.of(position);
+    }
+
+    GameState getState() {
+        return state;
+    }
+
+    Set getSet() {
+        return set;
+    }
+
+    long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,45 @@
+package game.server;
+
+import game.properties.GameState;
+
+public class MoveResult {
+
+    private final long gameId;
+    private final int ply;
+    private final int move;
+    private final String san;
+    private final GameState state;
+
+    public MoveResult(long gameId, int ply, int move, String san, GameState state) {
+        this.gameId = gameId;
+        this.ply = ply;
+        this.move = move;
+        this.san = san;
+        this.state = state;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public int getMove() {
+        return move;
+    }
+
+    public String getSan() {
+        return san;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return gameId + " " + ply + " " + san + " " + state;
+    }
+}
@@ -0,0 +1,46 @@
+package game.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class SessionExecutors {
+
+    private static final Method VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutor();
+
+    private SessionExecutors() {
+    }
+
+    // Looked up reflectively so the code still builds and runs on releases without virtual threads.
+    private static Method virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    public static boolean isVirtual() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    // One thread per session: virtual where the runtime has them, otherwise daemon platform threads.
+    public static ExecutorService newSessionExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("Could not create a virtual thread executor", exception);
+            }
+        }
+        AtomicInteger threadIds = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(null, task, "game-session-" + threadIds.incrementAndGet(), 256 * 1024);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
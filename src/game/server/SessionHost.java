@@ -0,0 +1,83 @@
+package game.server;
+
+import game.gameExceptions.GameNotFoundException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hosts every game session on a thread of its own. Suited to many long-lived, mostly idle games when virtual threads are available.
+public class SessionHost implements AutoCloseable {
+
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong sessionIds = new AtomicLong();
+    private final AtomicInteger playerIds = new AtomicInteger();
+    private final GameHostMetrics metrics = new GameHostMetrics();
+    private final ExecutorService executor;
+    private final boolean isVirtual;
+
+    public SessionHost() {
+        this(SessionExecutors.newSessionExecutor(), SessionExecutors.isVirtual());
+    }
+
+    // The host can not tell what threads a given executor runs on, so isVirtual reports false for it.
+    public SessionHost(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    private SessionHost(ExecutorService executor, boolean isVirtual) {
+        this.executor = executor;
+        this.isVirtual = isVirtual;
+    }
+
+    public long openSession(String white, String black) {
+        long id = sessionIds.incrementAndGet();
+        GameSession session = new GameSession(id, white, black, playerIds, metrics);
+        sessions.put(id, session);
+        metrics.recordGameCreated();
+        executor.execute(session);
+        return id;
+    }
+
+    public CompletableFuture<MoveResult> submitMove(long sessionId, String san) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) return CompletableFuture.failedFuture(new GameNotFoundException("No game with id " + sessionId));
+        return session.submitMove(san);
+    }
+
+    public GameSession getSession(long sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) throw new GameNotFoundException("No game with id " + sessionId);
+        return session;
+    }
+
+    public boolean closeSession(long sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session == null) return false;
+        session.close();
+        metrics.recordGameEnded();
+        return true;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public boolean isVirtual() {
+        return isVirtual;
+    }
+
+    public GameHostMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) session.close();
+        sessions.clear();
+        executor.shutdown();
+    }
+}
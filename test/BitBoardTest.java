@@ -0,0 +1,328 @@
+import game.components.Set;
+import game.components.board.Attacks;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.engine.Moves;
+import game.notation.Fen;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitBoardTest {
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+    }
+
+    @Test
+    void testThatBitBoardCanBeBuiltFromASetUpBoard() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        BitBoard bitBoard = BitBoard.of(set.getBoard());
+
+        assertEquals(16, Long.bitCount(bitBoard.getOccupancy(WHITE)));
+        assertEquals(16, Long.bitCount(bitBoard.getOccupancy(BLACK)));
+        assertEquals(8, Long.bitCount(bitBoard.getPieces(BLACK, PAWN)));
+        assertEquals(bit(square(8, 5)), bitBoard.getPieces(WHITE, KING));
+        assertEquals(bit(square(1, 4)), bitBoard.getPieces(BLACK, QUEEN));
+        assertEquals(pieceIndex(WHITE, ROOK), bitBoard.pieceAt(square(8, 1)));
+        assertEquals(EMPTY, bitBoard.pieceAt(square(4, 4)));
+    }
+
+    @Test
+    void testThatBoardKeepsItsBitBoardInSyncWithFloors() {
+        Floor floor = board.getFloor(2, 2);
+        Floor destinationFloor = board.getFloor(4, 2);
+        Pawn pawn = new Pawn(BLACK, floor);
+        BitBoard bitBoard = board.getBitBoard();
+        assertTrue(bitBoard.isOccupied(square(floor)));
+
+        pawn.move(destinationFloor, board);
+
+        assertFalse(bitBoard.isOccupied(square(floor)));
+        assertEquals(pieceIndex(BLACK, PAWN), bitBoard.pieceAt(square(destinationFloor)));
+        assertEquals(bit(square(destinationFloor)), bitBoard.getOccupancy());
+    }
+
+    @Test
+    void testThatCaptureReplacesEnemyOnBitBoard() {
+        Floor floor = board.getFloor(4, 4);
+        Floor enemyFloor = board.getFloor(6, 6);
+        Bishop bishop = new Bishop(BLACK, floor);
+        new Pawn(WHITE, enemyFloor);
+
+        bishop.move(enemyFloor, board);
+
+        BitBoard bitBoard = board.getBitBoard();
+        assertEquals(0L, bitBoard.getOccupancy(WHITE));
+        assertEquals(bit(square(enemyFloor)), bitBoard.getPieces(BLACK, BISHOP));
+    }
+
+    @Test
+    void testThatPathIsObstructedByPieceInBetween() {
+        new Rook(BLACK, board.getFloor(1, 1));
+        new Pawn(WHITE, board.getFloor(4, 1));
+        BitBoard bitBoard = board.getBitBoard();
+
+        assertTrue(bitBoard.isPathClear(square(1, 1), square(4, 1)));
+        assertFalse(bitBoard.isPathClear(square(1, 1), square(8, 1)));
+        assertTrue(bitBoard.isPathClear(square(1, 1), square(1, 8)));
+    }
+
+    @Test
+    void testThatSlidingAttacksStopAtFirstBlocker() {
+        long occupancy = bit(square(4, 6)) | bit(square(6, 4));
+
+        long rookAttacks = Attacks.rookAttacks(square(4, 4), occupancy);
+        assertEquals(14 - 2 - 2, Long.bitCount(rookAttacks));
+        assertTrue((rookAttacks & bit(square(4, 6))) != 0);
+        assertFalse((rookAttacks & bit(square(4, 7))) != 0);
+
+        assertEquals(13, Long.bitCount(Attacks.bishopAttacks(square(4, 4), 0L)));
+        assertEquals(2, Long.bitCount(Attacks.knightAttacks(square(1, 1))));
+        assertEquals(8, Long.bitCount(Attacks.kingAttacks(square(5, 5))));
+    }
+
+    @Test
+    void testThatPawnsAttackTowardsTheirDirectionOfTravel() {
+        assertEquals(bit(square(3, 1)) | bit(square(3, 3)), Attacks.pawnAttacks(BLACK, square(2, 2)));
+        assertEquals(bit(square(6, 1)) | bit(square(6, 3)), Attacks.pawnAttacks(WHITE, square(7, 2)));
+    }
+
+    @Test
+    void testThatSquareAttackedByEnemyPiecesIsDetected() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Queen(WHITE, board.getFloor(4, 8));
+        new Knight(WHITE, board.getFloor(3, 3));
+        BitBoard bitBoard = board.getBitBoard();
+
+        assertTrue(bitBoard.isAttacked(square(1, 5), WHITE));
+        assertEquals(bit(square(4, 8)), bitBoard.attackersOf(square(1, 5), WHITE));
+        assertTrue(bitBoard.isAttacked(square(1, 4), WHITE));
+        assertFalse(bitBoard.isAttacked(square(1, 1), WHITE));
+    }
+
+    @Test
+    void testThatUnmakeMoveRestoresPositionAfterEveryLegalMove() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Rook(BLACK, board.getFloor(1, 1));
+        new Pawn(BLACK, board.getFloor(4, 4));
+        new Pawn(BLACK, board.getFloor(7, 2));
+        new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(8, 8));
+        new Pawn(WHITE, board.getFloor(4, 5));
+        BitBoard position = BitBoard.of(board, BLACK);
+        position.setEnPassantSquare(square(5, 5));
+        BitBoard original = new BitBoard();
+        original.copyFrom(position);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        assertTrue(moves.contains(Moves.encode(square(4, 4), square(5, 5), Moves.EN_PASSANT, true)));
+        for (int index = 0; index < moves.size(); index++) {
+            position.makeMove(moves.get(index));
+            assertEquals(1, position.getPly());
+            position.unmakeMove();
+
+            for (int piece = 0; piece < NUMBER_OF_PIECES; piece++) {
+                assertEquals(original.getPieces(piece), position.getPieces(piece));
+            }
+            assertEquals(original.getCastlingRights(), position.getCastlingRights());
+            assertEquals(original.getEnPassantSquare(), position.getEnPassantSquare());
+            assertEquals(BLACK, position.getSideToMove());
+        }
+    }
+
+    @Test
+    void testThatPieceShieldingKingFromSliderIsPinned() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Knight(BLACK, board.getFloor(2, 5));
+        new Bishop(BLACK, board.getFloor(2, 4));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(3, 7));
+        new Rook(WHITE, board.getFloor(8, 5));
+        new Queen(WHITE, board.getFloor(4, 2));
+        new Bishop(WHITE, board.getFloor(4, 8));
+        BitBoard bitBoard = board.getBitBoard();
+
+        assertEquals(bit(square(2, 5)) | bit(square(2, 4)), bitBoard.pinnedPieces(BLACK));
+        assertEquals(0L, bitBoard.pinnedPieces(WHITE));
+    }
+
+    @Test
+    void testThatAttackedSquaresCoverEveryEnemyPieceAttack() {
+        new Rook(WHITE, board.getFloor(8, 1));
+        new Pawn(WHITE, board.getFloor(7, 4));
+        new Knight(WHITE, board.getFloor(8, 7));
+        new Pawn(BLACK, board.getFloor(5, 1));
+        BitBoard bitBoard = board.getBitBoard();
+
+        long attacks = bitBoard.attackedSquares(WHITE);
+
+        assertTrue((attacks & bit(square(6, 3))) != 0);
+        assertTrue((attacks & bit(square(6, 5))) != 0);
+        assertTrue((attacks & bit(square(6, 6))) != 0);
+        assertTrue((attacks & bit(square(5, 1))) != 0);
+        assertFalse((attacks & bit(square(4, 1))) != 0);
+        assertFalse(bitBoard.isInCheck(WHITE));
+    }
+
+    @Test
+    void testThatIncrementalKeyMatchesKeyOfSameFreshPosition() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        BitBoard position = BitBoard.of(set.getBoard(), WHITE);
+        long startKey = position.getKey();
+
+        position.makeMove(Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false));
+        position.makeMove(Moves.encode(square(1, 7), square(3, 6), Moves.NORMAL, false));
+        assertNotEquals(startKey, position.getKey());
+
+        BitBoard expected = BitBoard.of(set.getBoard(), WHITE);
+        expected.remove(square(7, 5));
+        expected.put(pieceIndex(WHITE, PAWN), square(5, 5));
+        expected.remove(square(1, 7));
+        expected.put(pieceIndex(BLACK, KNIGHT), square(3, 6));
+        assertEquals(expected.getKey(), position.getKey());
+
+        position.unmakeMove();
+        position.unmakeMove();
+        assertEquals(startKey, position.getKey());
+    }
+
+    @Test
+    void testThatShuffledKnightsRepeatThePosition() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        BitBoard position = BitBoard.of(set.getBoard(), WHITE);
+        int[] moves = {
+                Moves.encode(square(8, 2), square(6, 3), Moves.NORMAL, false),
+                Moves.encode(square(1, 2), square(3, 3), Moves.NORMAL, false),
+                Moves.encode(square(6, 3), square(8, 2), Moves.NORMAL, false),
+                Moves.encode(square(3, 3), square(1, 2), Moves.NORMAL, false)
+        };
+
+        for (int move : moves) {
+            assertFalse(position.isRepetition());
+            position.makeMove(move);
+        }
+        assertTrue(position.isRepetition());
+        assertEquals(1, position.repetitionCount());
+    }
+
+    @Test
+    void testThatCopyKeepsThePositionsBeforeIt() {
+        BitBoard position = Fen.toBitBoard(Fen.STARTING_POSITION);
+        position.makeMove(Moves.encode(square(8, 2), square(6, 3), Moves.NORMAL, false));
+        position.makeMove(Moves.encode(square(1, 2), square(3, 3), Moves.NORMAL, false));
+        position.makeMove(Moves.encode(square(6, 3), square(8, 2), Moves.NORMAL, false));
+        position.makeMove(Moves.encode(square(3, 3), square(1, 2), Moves.NORMAL, false));
+        BitBoard copy = new BitBoard();
+
+        copy.copyFrom(position);
+
+        assertEquals(4, copy.getPly());
+        assertTrue(copy.isRepetition());
+        copy.unmakeMove();
+        assertNotEquals(position.getKey(), copy.getKey());
+        assertFalse(copy.isRepetition());
+    }
+
+    @Test
+    void testThatSeededKeyHistoryCountsForRepetition() {
+        BitBoard position = Fen.toBitBoard(Fen.STARTING_POSITION);
+        long startKey = position.getKey();
+        position.setKeyHistory(new long[]{startKey, 1L, 2L, 3L});
+
+        assertEquals(4, position.getPly());
+        assertTrue(position.isRepetition());
+        position.makeMove(Moves.encode(square(7, 5), square(6, 5), Moves.NORMAL, false));
+        assertFalse(position.isRepetition());
+    }
+
+    @Test
+    void testThatEnPassantSquareIsOnlySetWhenAPawnCanCaptureOnIt() {
+        BitBoard position = Fen.toBitBoard("4k3/8/8/8/5p2/8/3P4/4K3 w - - 0 1");
+
+        position.makeMove(Moves.encode(square(7, 4), square(5, 4), Moves.DOUBLE_PUSH, false));
+
+        assertEquals(EMPTY, position.getEnPassantSquare());
+        assertEquals(Fen.toBitBoard("4k3/8/8/8/3P1p2/8/8/4K3 b - - 0 1").getKey(), position.getKey());
+
+        BitBoard beside = Fen.toBitBoard("4k3/8/8/8/4p3/8/3P4/4K3 w - - 0 1");
+        beside.makeMove(Moves.encode(square(7, 4), square(5, 4), Moves.DOUBLE_PUSH, false));
+        assertEquals(square(6, 4), beside.getEnPassantSquare());
+    }
+
+    @Test
+    void testThatSetAndBitBoardKeysAgreeAfterADoublePush() {
+        Set set = new Set("olu", "slim");
+        set.setUp(Fen.STARTING_POSITION);
+        BitBoard position = Fen.toBitBoard(Fen.STARTING_POSITION);
+        int e4 = Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false);
+
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), e4);
+        position.makeMove(e4);
+
+        assertEquals(position.getKey(), set.snapshot().getKey());
+        assertEquals(Fen.toFen(position), set.toFen());
+
+        set.getBlackPiecePlayer().makeMove(set.getBoard(), Moves.encode(square(1, 7), square(3, 6), Moves.NORMAL, false));
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), Moves.encode(square(8, 7), square(6, 6), Moves.NORMAL, false));
+        set.getBlackPiecePlayer().makeMove(set.getBoard(), Moves.encode(square(3, 6), square(1, 7), Moves.NORMAL, false));
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), Moves.encode(square(6, 6), square(8, 7), Moves.NORMAL, false));
+
+        assertEquals(position.getKey(), set.snapshot().getKey());
+    }
+
+    @Test
+    void testThatSetKeepsEnPassantSquareWhenAPawnCanCaptureOnIt() {
+        String fen = "4k3/8/8/8/4p3/8/3P4/4K3 w - - 0 1";
+        Set set = new Set("olu", "slim");
+        set.setUp(fen);
+        BitBoard position = Fen.toBitBoard(fen);
+        int d4 = Moves.encode(square(7, 4), square(5, 4), Moves.DOUBLE_PUSH, false);
+
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), d4);
+        position.makeMove(d4);
+
+        assertEquals(square(6, 4), set.getEnPassantSquare());
+        assertEquals(position.getKey(), set.snapshot().getKey());
+    }
+
+    @Test
+    void testThatBoardsWithSamePlacementAreEqual() {
+        Board other = new Board(8, 8);
+        new Rook(BLACK, board.getFloor(1, 1));
+        new Rook(BLACK, other.getFloor(1, 1));
+        assertEquals(board, other);
+        assertEquals(board.hashCode(), other.hashCode());
+
+        new Pawn(WHITE, other.getFloor(7, 1));
+        assertNotEquals(board, other);
+        assertNotEquals(board.getZobristKey(), other.getZobristKey());
+        assertEquals(board.getFloor(3, 4).hashCode(), other.getFloor(3, 4).hashCode());
+    }
+}
@@ -0,0 +1,101 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.notation.Fen;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCopyTest {
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+    }
+
+    @Test
+    void testThatCopyHasSamePositionAndIndependentPieces() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        Board original = set.getBoard();
+
+        Board copy = original.copy();
+
+        assertEquals(original.getZobristKey(), copy.getZobristKey());
+        assertEquals(original, copy);
+        Piece copiedPawn = copy.getFloor(7, 5).getCurrentOccupant();
+        assertNotSame(original.getFloor(7, 5).getCurrentOccupant(), copiedPawn);
+        copiedPawn.move(copy.getFloor(5, 5), copy);
+        assertTrue(original.getFloor(7, 5).isOccupied());
+        assertFalse(original.getFloor(5, 5).isOccupied());
+        assertNotEquals(original, copy);
+    }
+
+    @Test
+    void testThatCopyKeepsWhichPiecesHaveMoved() {
+        King king = new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(8, 8));
+        Rook movedRook = new Rook(WHITE, board.getFloor(8, 1));
+        Pawn pawn = new Pawn(BLACK, board.getFloor(2, 4));
+        movedRook.move(board.getFloor(7, 1), board);
+        movedRook.move(board.getFloor(8, 1), board);
+        pawn.move(board.getFloor(3, 4), board);
+
+        Board copy = board.copy();
+
+        assertEquals(WHITE_KING_SIDE, BitBoard.castlingRightsOf(copy));
+        assertTrue(((Rook) copy.getFloor(8, 1).getCurrentOccupant()).hasMadeFirstMove());
+        assertFalse(((King) copy.getFloor(8, 5).getCurrentOccupant()).hasMadeFirstMove());
+        assertTrue(((Pawn) copy.getFloor(3, 4).getCurrentOccupant()).hasMadeFirstMove());
+        assertEquals(BitBoard.castlingRightsOf(copy), BitBoard.castlingRightsOf(copy.copy()));
+        assertFalse(king.hasMadeFirstMove());
+    }
+
+    @Test
+    void testThatReleasedBoardAndPiecesAreReused() {
+        Board pooled = Board.obtain();
+        Floor floor = pooled.getFloor(4, 4);
+        Piece knight = PiecePool.obtain(pieceIndex(BLACK, KNIGHT), floor);
+        knight.move(pooled.getFloor(6, 5), pooled);
+
+        pooled.release();
+        Board reused = Board.obtain();
+        Piece reusedKnight = PiecePool.obtain(pieceIndex(BLACK, KNIGHT), reused.getFloor(1, 2));
+
+        assertSame(pooled, reused);
+        assertSame(knight, reusedKnight);
+        assertEquals(bit(square(1, 2)), reused.getBitBoard().getOccupancy());
+        assertNull(reusedKnight.getLastMove());
+        assertFalse(reused.getFloor(6, 5).isOccupied());
+        reused.release();
+    }
+
+    @Test
+    void testThatPiecesNotFromThePoolAreNotReused() {
+        Set set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+        set.setUp(Fen.STARTING_POSITION);
+        Board setBoard = set.getBoard();
+
+        setBoard.release();
+        Piece knight = PiecePool.obtain(pieceIndex(WHITE, KNIGHT), board.getFloor(4, 4));
+
+        assertFalse(set.getPieces(WHITE).contains(knight));
+    }
+}
@@ -0,0 +1,60 @@
+import game.components.Set;
+import game.components.board.BoardRenderer;
+import game.engine.Moves;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardRendererTest {
+    Set set;
+
+    @BeforeEach
+    void setUp() {
+        set = new Set("olu", "ehis");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+    }
+
+    @AfterEach
+    void tearDown() {
+        set = null;
+    }
+
+    @Test
+    void testThatOnlyRanksWithChangedPiecesAreRenderedAgain() {
+        BoardRenderer renderer = new BoardRenderer(set.getBoard());
+        String start = renderer.render();
+        assertEquals(8, renderer.getRanksRendered());
+        assertEquals(start, renderer.render());
+        assertEquals(8, renderer.getRanksRendered());
+
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("e2", 0), Moves.parseSquare("e4", 0), Moves.DOUBLE_PUSH, false));
+        String afterMove = renderer.render();
+
+        assertEquals(10, renderer.getRanksRendered());
+        assertNotEquals(start, afterMove);
+        assertEquals(new BoardRenderer(set.getBoard()).render(), afterMove);
+        assertTrue(afterMove.startsWith("1| ♜\t\t♞\t\t"));
+        assertTrue(afterMove.contains("5| --\t\t--\t\t--\t\t--\t\t♙\t\t--\t\t--\t\t--\n"));
+    }
+
+    @Test
+    void testThatCompactStyleIsTheFenPiecePlacement() {
+        BoardRenderer renderer = new BoardRenderer(set.getBoard(), BoardRenderer.Style.COMPACT);
+        assertEquals("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR", renderer.render());
+
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("g1", 0), Moves.parseSquare("f3", 0), Moves.NORMAL, false));
+        assertEquals(set.toFen().split(" ")[0], renderer.render());
+    }
+
+    @Test
+    void testThatAnsiStyleColoursEverySquare() {
+        String rendered = new BoardRenderer(set.getBoard(), BoardRenderer.Style.ANSI).render();
+
+        assertEquals(64, rendered.split("\u001B\\[30;4").length - 1);
+        assertEquals(8, rendered.split("\u001B\\[0m\n").length - 1);
+        assertTrue(rendered.contains("♚"));
+    }
+}
@@ -0,0 +1,107 @@
+import game.components.ComputerPlayer;
+import game.components.Game;
+import game.components.Player;
+import game.components.Set;
+import game.components.board.Board;
+import game.engine.Moves;
+import game.engine.SearchLimits;
+import game.pieces.Pawn;
+import game.pieces.Piece;
+import game.pieces.Queen;
+import game.pieces.Rook;
+import game.pieces.king.King;
+import game.properties.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.QUEEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComputerPlayerTest {
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+    }
+
+    @Test
+    void testThatComputerPlayersCanPlayAGameAgainstEachOther() {
+        try (ComputerPlayer white = new ComputerPlayer("white", WHITE, SearchLimits.depth(2));
+             ComputerPlayer black = new ComputerPlayer("black", BLACK, SearchLimits.depth(2))) {
+            Set set = new Set(white, black);
+
+            GameState state = new Game().playComputerGame(set, 6);
+
+            assertEquals(3, white.getMoveCount());
+            assertEquals(3, black.getMoveCount());
+            assertEquals(WHITE, set.getSideToMove());
+            assertFalse(state.isOver());
+        }
+    }
+
+    @Test
+    void testThatComputerPlayerDeliversMateOnTheBoard() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        Rook rook = new Rook(WHITE, board.getFloor(8, 1));
+        new King(WHITE, board.getFloor(8, 7));
+        try (ComputerPlayer computer = new ComputerPlayer("bot", WHITE, SearchLimits.depth(3))) {
+            computer.playMove(board);
+        }
+
+        assertEquals(board.getFloor(1, 1), rook.getCurrentFloor());
+        assertNull(board.getFloor(8, 1).getCurrentOccupant());
+    }
+
+    @Test
+    void testThatComputerPlayerSeesEnPassantInItsSet() {
+        try (ComputerPlayer computer = new ComputerPlayer("bot", BLACK, SearchLimits.depth(2))) {
+            Set set = new Set(new Player("olu", WHITE), computer);
+            set.setUp("7k/5K2/6P1/8/4Pp2/5P2/8/8 b - e3 0 1");
+
+            int move = computer.playMove(set.getBoard());
+
+            assertEquals(Moves.EN_PASSANT, Moves.flag(move));
+            assertEquals("7k/5K2/6P1/8/8/4pP2/8/8 w - - 0 2", set.toFen());
+        }
+    }
+
+    @Test
+    void testThatPlayerCanCastleWithEncodedMove() {
+        King king = new King(WHITE, board.getFloor(8, 5));
+        Rook rook = new Rook(WHITE, board.getFloor(8, 8));
+        Player player = new Player("olu", WHITE);
+
+        player.makeMove(board, Moves.encode(square(8, 5), square(8, 7), Moves.CASTLE, false));
+
+        assertEquals(board.getFloor(8, 7), king.getCurrentFloor());
+        assertEquals(board.getFloor(8, 6), rook.getCurrentFloor());
+        assertNull(board.getFloor(8, 5).getCurrentOccupant());
+        assertNull(board.getFloor(8, 8).getCurrentOccupant());
+        assertEquals(1, player.getMoveCount());
+    }
+
+    @Test
+    void testThatPlayerCanPromoteWithEncodedMove() {
+        new Pawn(BLACK, board.getFloor(7, 3));
+        Player player = new Player("slim", BLACK);
+
+        player.makeMove(board, Moves.encodePromotion(square(7, 3), square(8, 3), QUEEN, false));
+
+        Piece promotedPiece = board.getFloor(8, 3).getCurrentOccupant();
+        assertTrue(promotedPiece instanceof Queen);
+        assertEquals(BLACK, promotedPiece.getColour());
+    }
+}
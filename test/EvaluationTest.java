@@ -0,0 +1,118 @@
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.components.board.PieceSquareTables;
+import game.engine.Evaluation;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.engine.Moves;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluationTest {
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+    }
+
+    @Test
+    void testThatStartingPositionIsBalancedAtFullPhase() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        BitBoard position = BitBoard.of(set.getBoard(), WHITE);
+
+        assertEquals(0, Evaluation.evaluate(position));
+        assertEquals(0, position.getMiddleGameScore());
+        assertEquals(0, position.getEndGameScore());
+        assertEquals(PieceSquareTables.MAX_PHASE, position.getPhase());
+    }
+
+    @Test
+    void testThatExtraMaterialIsScoredFromSideToMove() {
+        new King(BLACK, board.getFloor(1, 5));
+        new King(WHITE, board.getFloor(8, 5));
+        new Queen(WHITE, board.getFloor(6, 4));
+
+        int whiteScore = Evaluation.evaluate(BitBoard.of(board, WHITE));
+
+        assertTrue(whiteScore > PieceSquareTables.END_GAME_VALUES[4] / 2);
+        assertEquals(-whiteScore, Evaluation.evaluate(BitBoard.of(board, BLACK)));
+    }
+
+    @Test
+    void testThatCentralKnightScoresHigherThanKnightOnTheRim() {
+        new King(BLACK, board.getFloor(1, 5));
+        new King(WHITE, board.getFloor(8, 5));
+        Floor rim = board.getFloor(5, 1);
+        Knight knight = new Knight(WHITE, rim);
+        int rimScore = Evaluation.evaluate(BitBoard.of(board, WHITE));
+
+        knight.move(board.getFloor(4, 3), board);
+
+        assertTrue(Evaluation.evaluate(BitBoard.of(board, WHITE)) > rimScore);
+    }
+
+    @Test
+    void testThatIncrementalScoresMatchFreshPositionAfterMakeAndUnmake() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Rook(BLACK, board.getFloor(1, 8));
+        new Pawn(BLACK, board.getFloor(4, 4));
+        new Knight(BLACK, board.getFloor(3, 3));
+        new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(8, 1));
+        new Bishop(WHITE, board.getFloor(6, 6));
+        new Pawn(WHITE, board.getFloor(2, 2));
+        new Pawn(WHITE, board.getFloor(4, 5));
+        BitBoard position = BitBoard.of(board, BLACK);
+        position.setEnPassantSquare(square(5, 5));
+        int middleGame = position.getMiddleGameScore();
+        int endGame = position.getEndGameScore();
+        int phase = position.getPhase();
+        MoveList moves = new MoveList();
+        MoveList replies = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        for (int index = 0; index < moves.size(); index++) {
+            position.makeMove(moves.get(index));
+            MoveGenerator.generateLegalMoves(position, replies);
+            for (int reply = 0; reply < replies.size(); reply++) {
+                position.makeMove(replies.get(reply));
+                assertEquals(rebuilt(position).getMiddleGameScore(), position.getMiddleGameScore());
+                assertEquals(rebuilt(position).getEndGameScore(), position.getEndGameScore());
+                assertEquals(rebuilt(position).getPhase(), position.getPhase());
+                position.unmakeMove();
+            }
+            position.unmakeMove();
+        }
+
+        assertTrue(moves.contains(Moves.encode(square(4, 4), square(5, 5), Moves.EN_PASSANT, true)));
+        assertEquals(middleGame, position.getMiddleGameScore());
+        assertEquals(endGame, position.getEndGameScore());
+        assertEquals(phase, position.getPhase());
+    }
+
+    private BitBoard rebuilt(BitBoard position) {
+        BitBoard fresh = new BitBoard();
+        for (int square = 0; square < 64; square++) {
+            if (position.isOccupied(square)) fresh.put(position.pieceAt(square), square);
+        }
+        return fresh;
+    }
+}
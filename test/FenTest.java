@@ -0,0 +1,150 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.Moves;
+import game.gameExceptions.InvalidFenException;
+import game.notation.Fen;
+import game.notation.San;
+import game.pieces.Pawn;
+import game.pieces.Rook;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FenTest {
+    static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    Set set;
+
+    @BeforeEach
+    void setUp() {
+        set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Player.resetId();
+        set = null;
+    }
+
+    @Test
+    void testThatStartingPositionMatchesGeneratedSet() {
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        assertEquals(Fen.STARTING_POSITION, set.toFen());
+        assertEquals(Fen.STARTING_POSITION, Fen.toFen(set.getBoard(), WHITE));
+        assertEquals(set.getBoard(), Fen.toBoard(Fen.STARTING_POSITION));
+    }
+
+    @Test
+    void testThatFenRoundTripsThroughBitBoard() {
+        String fen = "rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b Kq c6 1 2";
+        BitBoard position = Fen.toBitBoard(fen);
+
+        assertEquals(fen, Fen.toFen(position));
+        assertEquals(BLACK, position.getSideToMove());
+        assertEquals(WHITE_KING_SIDE | BLACK_QUEEN_SIDE, position.getCastlingRights());
+        assertEquals(square(3, 3), position.getEnPassantSquare());
+        assertEquals(pieceIndex(WHITE, KNIGHT), position.pieceAt(square(6, 6)));
+        assertEquals(1, position.getHalfMoveClock());
+        assertEquals(2, position.getFullMoveNumber());
+        assertEquals(Fen.toBitBoard(KIWIPETE).getKey(), Fen.toBitBoard(KIWIPETE + " ").getKey());
+    }
+
+    @Test
+    void testThatBoardFromFenMarksPiecesThatCannotCastleAsMoved() {
+        Board board = Fen.toBoard("r3k2r/8/8/8/3p4/8/P7/R3K2R w Kq - 0 1");
+
+        assertFalse(((Rook) board.getFloor(8, 8).getCurrentOccupant()).hasMadeFirstMove());
+        assertTrue(((Rook) board.getFloor(8, 1).getCurrentOccupant()).hasMadeFirstMove());
+        assertFalse(((King) board.getFloor(8, 5).getCurrentOccupant()).hasMadeFirstMove());
+        assertTrue(((Rook) board.getFloor(1, 8).getCurrentOccupant()).hasMadeFirstMove());
+        assertTrue(((Pawn) board.getFloor(5, 4).getCurrentOccupant()).hasMadeFirstMove());
+        assertFalse(((Pawn) board.getFloor(7, 1).getCurrentOccupant()).hasMadeFirstMove());
+        assertEquals(WHITE_KING_SIDE | BLACK_QUEEN_SIDE, BitBoard.castlingRightsOf(board));
+    }
+
+    @Test
+    void testThatSetReportsEnPassantAndMoveClocksAfterMoves() {
+        set.setUp(KIWIPETE);
+        Player white = set.getWhitePiecePlayer();
+        Player black = set.getBlackPiecePlayer();
+
+        white.makeMove(set.getBoard(), set.getBoard().getFloor(7, 1).getCurrentOccupant(), set.getBoard().getFloor(5, 1));
+        assertEquals("r3k2r/p1ppqpb1/bn2pnp1/3PN3/Pp2P3/2N2Q1p/1PPBBPPP/R3K2R b KQkq a3 0 1", set.toFen());
+
+        black.makeMove(set.getBoard(), set.getBoard().getFloor(1, 1).getCurrentOccupant(), set.getBoard().getFloor(1, 2));
+        white.makeMove(set.getBoard(), set.getBoard().getFloor(6, 6).getCurrentOccupant(), set.getBoard().getFloor(6, 7));
+        assertEquals("1r2k2r/p1ppqpb1/bn2pnp1/3PN3/Pp2P3/2N3Qp/1PPBBPPP/R3K2R b KQk - 2 2", set.toFen());
+    }
+
+    @Test
+    void testThatSetUpFromFenContinuesWithSideToMove() {
+        set.setUp("4k3/8/8/8/8/8/4P3/4K3 b - - 12 40");
+
+        assertEquals(BLACK, set.getSideToMove());
+        set.getBlackPiecePlayer().makeMove(set.getBoard(), set.getBoard().getFloor(1, 5).getCurrentOccupant(), set.getBoard().getFloor(1, 4));
+        assertEquals(WHITE, set.getSideToMove());
+        assertEquals("3k4/8/8/8/8/8/4P3/4K3 w - - 13 41", set.toFen());
+    }
+
+    @Test
+    void testThatMoveClocksFollowMakeAndUnmake() {
+        BitBoard position = Fen.toBitBoard("4k3/8/8/8/8/8/4P3/4K3 w - - 7 30");
+
+        position.makeMove(Moves.encode(square(8, 5), square(8, 4), Moves.NORMAL, false));
+        assertEquals(8, position.getHalfMoveClock());
+        position.makeMove(Moves.encode(square(1, 5), square(1, 4), Moves.NORMAL, false));
+        assertEquals(31, position.getFullMoveNumber());
+        position.makeMove(Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false));
+        assertEquals(0, position.getHalfMoveClock());
+
+        position.unmakeMove();
+        position.unmakeMove();
+        position.unmakeMove();
+        assertEquals("4k3/8/8/8/8/8/4P3/4K3 w - - 7 30", Fen.toFen(position));
+    }
+
+    @Test
+    void testThatMalformedFenIsRejected() {
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("rnbqkbnr/ppppXppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w"));
+    }
+
+    @Test
+    void testThatCastlingFieldIsEitherADashOrEachRightOnce() {
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w KKq - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w -- - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w -K - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w K- - 0 1"));
+        assertThrows(InvalidFenException.class, () -> Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w  - 0 1"));
+        assertEquals(0, Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w - - 0 1").getCastlingRights());
+        assertEquals("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1", Fen.toFen(Fen.toBitBoard("r3k2r/8/8/8/8/8/8/R3K2R w qK - 0 1")));
+    }
+
+    @Test
+    void testThatSettingUpAgainReplacesThePosition() {
+        set.setUp(KIWIPETE);
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), San.toMove(Fen.toBitBoard(KIWIPETE), "O-O"));
+
+        set.setUp("4k3/8/8/8/8/8/4P3/4K3 b - - 12 40");
+
+        assertEquals("4k3/8/8/8/8/8/4P3/4K3 b - - 12 40", set.toFen());
+        assertEquals(0, set.getWhitePiecePlayer().getMoveCount());
+        assertEquals(2, set.getPieces(WHITE).size());
+        assertEquals(1, set.getPieces(BLACK).size());
+        assertEquals(BLACK, set.getSideToMove());
+    }
+}
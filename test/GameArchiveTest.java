@@ -0,0 +1,137 @@
+import game.archive.GameArchive;
+import game.archive.GameArchiveReader;
+import game.archive.GameArchiveWriter;
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.notation.Fen;
+import game.notation.PgnGame;
+import game.notation.PgnReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameArchiveTest {
+    static final String GAMES = """
+            [Event "Opera"]
+            [Result "1-0"]
+
+            1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 Bxf3 5. Qxf3 dxe5 6. Bc4 Nf6 7. Qb3 Qe7
+            8. Nc3 c6 9. Bg5 b5 10. Nxb5 cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7
+            14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0
+
+            [Event "Promotion"]
+            [SetUp "1"]
+            [FEN "4k3/3p3P/8/4P3/8/8/8/4K3 b - - 0 1"]
+            [Result "*"]
+
+            1... d5 2. exd6 Kf7 3. h8=N+ *
+            """;
+
+    Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("games", ".archive");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void testThatEveryMoveSurvivesPackingAgainstItsPosition() {
+        BitBoard position = Fen.toBitBoard("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        for (int index = 0; index < moves.size(); index++) {
+            assertEquals(moves.get(index), GameArchive.unpack(GameArchive.pack(moves.get(index)), position));
+        }
+    }
+
+    @Test
+    void testThatConvertedGamesReplayToTheSamePositions() throws IOException {
+        int games = GameArchiveWriter.convert(new StringReader(GAMES), path);
+        PgnReader pgn = new PgnReader(new StringReader(GAMES));
+        PgnGame opera = pgn.next();
+        PgnGame promotion = pgn.next();
+
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            assertEquals(2, games);
+            assertEquals(2, reader.getGameCount());
+            assertEquals(33, reader.getPlyCount(0));
+            assertEquals(PgnGame.WHITE_WINS, reader.getResult(0));
+            assertEquals(PgnGame.UNFINISHED, reader.getResult(1));
+            assertEquals(promotion.getStartingFen(), reader.getStartingFen(1));
+            assertEquals(GameArchive.pack(opera.getMove(32)), reader.getPackedMove(0, 32));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getPackedMove(0, 33));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getPackedMove(1, -1));
+
+            BitBoard position = new BitBoard();
+            reader.replay(0, position);
+            assertEquals(finalPositionOf(opera), Fen.toFen(position));
+            reader.replay(1, position);
+            assertEquals(finalPositionOf(promotion), Fen.toFen(position));
+
+            Set set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+            reader.replay(0, set);
+            assertTrue(set.isGameOver());
+            Player.resetId();
+        }
+    }
+
+    @Test
+    void testThatGamesAreKeptWithinSegments() throws IOException {
+        PgnGame opera = new PgnReader(new StringReader(GAMES)).next();
+        try (GameArchiveWriter writer = new GameArchiveWriter(path, 8)) {
+            for (int game = 0; game < 20; game++) {
+                writer.add(opera);
+            }
+        }
+
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            BitBoard position = new BitBoard();
+            assertEquals(20, reader.getGameCount());
+            for (int game = 0; game < reader.getGameCount(); game++) {
+                reader.replay(game, position);
+                assertEquals(finalPositionOf(opera), Fen.toFen(position));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new GameArchiveWriter(path, 4));
+    }
+
+    @Test
+    void testThatClosedArchiveIsCutToWhatWasWritten() throws IOException {
+        try (GameArchiveWriter writer = new GameArchiveWriter(path)) {
+            writer.add(new PgnReader(new StringReader(GAMES)).next());
+        }
+        assertTrue(Files.size(path) < 1024);
+
+        new GameArchiveWriter(path).close();
+        assertEquals(GameArchive.HEADER_SIZE, Files.size(path));
+        try (GameArchiveReader reader = new GameArchiveReader(path)) {
+            assertEquals(0, reader.getGameCount());
+        }
+    }
+
+    private String finalPositionOf(PgnGame game) {
+        BitBoard position = Fen.toBitBoard(game.getStartingFen());
+        for (int move : game.getMoves()) {
+            position.makeMove(move);
+        }
+        return Fen.toFen(position);
+    }
+}
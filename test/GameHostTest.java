@@ -0,0 +1,84 @@
+import game.gameExceptions.GameNotFoundException;
+import game.gameExceptions.InvalidMoveException;
+import game.properties.GameState;
+import game.server.GameHost;
+import game.server.MoveResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameHostTest {
+    static final String[] FOOLS_MATE = {"f3", "e5", "g4", "Qh4#"};
+
+    GameHost host;
+
+    @BeforeEach
+    void setUp() {
+        host = new GameHost(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        host.close();
+        host = null;
+    }
+
+    @Test
+    void testThatManyGamesArePlayedConcurrentlyInSubmissionOrder() throws Exception {
+        List<Long> games = new ArrayList<>();
+        List<CompletableFuture<MoveResult>> lastMoves = new ArrayList<>();
+        for (int game = 0; game < 200; game++) {
+            games.add(host.createGame("white" + game, "black" + game));
+        }
+        for (String move : FOOLS_MATE) {
+            lastMoves.clear();
+            for (long game : games) {
+                lastMoves.add(host.submitMove(game, move));
+            }
+        }
+
+        for (CompletableFuture<MoveResult> lastMove : lastMoves) {
+            assertEquals(GameState.CHECKMATE, lastMove.get().getState());
+            assertEquals("Qh4#", lastMove.get().getSan());
+            assertEquals(4, lastMove.get().getPly());
+        }
+        assertEquals("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3", host.getFen(games.get(0)).get());
+        assertEquals(WHITE, host.snapshot(games.get(199)).get().getSideToMove());
+        assertEquals(800, host.getMetrics().getMovesPlayed());
+        assertEquals(200, host.getMetrics().getActiveGames());
+        assertTrue(host.getMetrics().getLatencyPercentileNanos(99) >= host.getMetrics().getMeanLatencyNanos() / 2);
+    }
+
+    @Test
+    void testThatIllegalMoveIsRejectedWithoutStoppingTheGame() throws Exception {
+        long game = host.createGame("olu", "slim");
+
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> host.submitMove(game, "e5").get());
+        MoveResult played = host.submitMove(game, "e4").get();
+
+        assertTrue(rejected.getCause() instanceof InvalidMoveException);
+        assertEquals("e4", played.getSan());
+        assertEquals(1, host.getMetrics().getMovesRejected());
+        assertEquals(GameState.IN_PROGRESS, host.getState(game).get());
+    }
+
+    @Test
+    void testThatEndedGameNoLongerAcceptsMoves() {
+        long game = host.createGame("olu", "slim");
+
+        assertTrue(host.endGame(game));
+
+        ExecutionException missing = assertThrows(ExecutionException.class, () -> host.submitMove(game, "e4").get());
+        assertTrue(missing.getCause() instanceof GameNotFoundException);
+        assertFalse(host.endGame(game));
+        assertEquals(0, host.getGameCount());
+    }
+}
@@ -0,0 +1,148 @@
+import game.notation.Fen;
+import game.server.BoardDelta;
+import game.server.GameClient;
+import game.server.GameHost;
+import game.server.GameServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameServerTest {
+    GameHost host;
+    GameServer server;
+    GameClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        host = new GameHost(2);
+        server = new GameServer(host, 0).start();
+        client = new GameClient(server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.close();
+        host.close();
+        client = null;
+        server = null;
+        host = null;
+    }
+
+    @Test
+    void testThatGameCanBePlayedOverTheLineProtocol() throws Exception {
+        long game = client.createGame("olu", "ehis");
+
+        assertEquals("OK " + game + " 1 e4 IN_PROGRESS", client.submitMove(game, "e4"));
+        assertTrue(client.submitMove(game, "e4").startsWith("ERR"));
+        assertEquals("OK " + game + " 2 e5 IN_PROGRESS", client.submitMove(game, "e5"));
+        assertEquals("STATE " + game + " IN_PROGRESS rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 0 2",
+                client.getState(game));
+        assertTrue(client.getState(game + 1).startsWith("ERR"));
+        assertTrue(client.request("JUMP 1").startsWith("ERR"));
+    }
+
+    @Test
+    void testThatRequestsAreReadAsUtf8() throws Exception {
+        assertEquals("ERR Unknown command \u00C9CHEC", client.request("\u00C9CHEC"));
+    }
+
+    @Test
+    void testThatTheRestOfALineThatIsTooLongIsDiscarded() throws Exception {
+        assertEquals("ERR Line too long", client.request("x".repeat(300)));
+        assertTrue(client.request("NEW olu ehis").startsWith("GAME "));
+    }
+
+    @Test
+    void testThatClientThatFallsTooFarBehindIsDisconnected() throws Exception {
+        try (GameServer smallServer = new GameServer(host, 0, 1024).start();
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), smallServer.getPort())) {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write("ZZZ\n".repeat(100).getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+
+            InputStream input = socket.getInputStream();
+            byte[] buffer = new byte[4096];
+            int received = 0;
+            int count;
+            while ((count = input.read(buffer)) >= 0) received += count;
+            assertTrue(received <= 1024);
+
+            try (GameClient other = new GameClient(smallServer.getPort())) {
+                assertTrue(other.request("NEW olu ehis").startsWith("GAME "));
+            }
+        }
+    }
+
+    @Test
+    void testThatEachMoveIsSerializedOnceForAllWatchers() throws Exception {
+        long game = client.createGame("olu", "ehis");
+        List<GameClient> spectators = new ArrayList<>();
+        for (int spectator = 0; spectator < 20; spectator++) {
+            GameClient spectatorClient = new GameClient(server.getPort());
+            spectatorClient.watch(game);
+            spectators.add(spectatorClient);
+        }
+
+        for (String move : new String[]{"f3", "e5", "g4", "Qh4#"}) {
+            assertTrue(client.submitMove(game, move).startsWith("OK"));
+        }
+
+        for (GameClient spectator : spectators) {
+            assertEquals("DELTA " + game + " 1 f2 f3 - - - IN_PROGRESS", spectator.nextEvent().toString());
+            spectator.nextEvent();
+            spectator.nextEvent();
+            assertEquals("DELTA " + game + " 4 d8 h4 - - - CHECKMATE", spectator.nextEvent().toString());
+            spectator.close();
+        }
+        assertEquals(4, server.getBroadcasts());
+        assertEquals(80, server.getBroadcastDeliveries());
+    }
+
+    @Test
+    void testThatWatchingAGameTwiceStillSendsEachDeltaOnce() throws Exception {
+        long game = client.createGame("olu", "ehis");
+        GameClient spectator = new GameClient(server.getPort());
+        spectator.watch(game);
+
+        assertEquals(1, spectator.watch(game).getFullMoveNumber());
+        assertTrue(client.submitMove(game, "e4").startsWith("OK"));
+        assertEquals("DELTA " + game + " 1 e2 e4 - - - IN_PROGRESS", spectator.nextEvent().toString());
+        assertTrue(spectator.getState(game).startsWith("STATE"));
+        assertEquals(1, server.getBroadcasts());
+        assertEquals(1, server.getBroadcastDeliveries());
+        spectator.close();
+    }
+
+    @Test
+    void testThatSpectatorJoiningMidGameFollowsItFromTheSnapshot() throws Exception {
+        long game = client.createGame("olu", "ehis");
+        String[] moves = {"e4", "d5", "e5", "f5", "exf6", "Qd6", "fxg7", "Nc6", "gxh8=Q", "Bd7", "Nf3", "O-O-O", "Be2", "a6", "O-O"};
+        GameClient spectator = new GameClient(server.getPort());
+
+        for (int ply = 0; ply < moves.length; ply++) {
+            if (ply == 4) assertEquals(3, spectator.watch(game).getFullMoveNumber());
+            assertTrue(client.submitMove(game, moves[ply]).startsWith("OK"), moves[ply]);
+        }
+        BoardDelta delta = null;
+        for (int ply = 4; ply < moves.length; ply++) {
+            delta = spectator.nextEvent();
+            assertEquals(ply + 1, delta.getPly());
+            if (ply == 4) assertEquals("DELTA " + game + " 5 e5 f6 f5 - - IN_PROGRESS", delta.toString());
+            if (ply == 8) assertEquals("DELTA " + game + " 9 g7 h8 h8 QUEEN - IN_PROGRESS", delta.toString());
+            if (ply == 11) assertEquals("DELTA " + game + " 12 e8 c8 - - a8d8 IN_PROGRESS", delta.toString());
+        }
+        assertEquals("DELTA " + game + " 15 e1 g1 - - h1f1 IN_PROGRESS", delta.toString());
+        assertEquals(client.getState(game).split(" ", 4)[3], Fen.toFen(spectator.getBoard(game)));
+        spectator.close();
+    }
+}
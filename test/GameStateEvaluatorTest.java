@@ -0,0 +1,117 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.GameStateEvaluator;
+import game.pieces.*;
+import game.pieces.king.King;
+import game.properties.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateEvaluatorTest {
+    Board board;
+    GameStateEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+        evaluator = new GameStateEvaluator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+        evaluator = null;
+    }
+
+    @Test
+    void testThatStartingPositionIsInProgress() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        assertEquals(WHITE, set.getSideToMove());
+        assertEquals(GameState.IN_PROGRESS, set.getGameState());
+        assertFalse(set.isGameOver());
+    }
+
+    @Test
+    void testThatEnPassantIsCountedAsALegalMove() {
+        Set set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+        set.setUp("7k/5K2/6P1/8/4Pp2/5P2/8/8 b - e3 0 1");
+
+        assertEquals(GameState.IN_PROGRESS, set.getGameState());
+
+        Set withoutEnPassant = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+        withoutEnPassant.setUp("7k/5K2/6P1/8/4Pp2/5P2/8/8 b - - 0 1");
+        assertEquals(GameState.STALEMATE, withoutEnPassant.getGameState());
+    }
+
+    @Test
+    void testThatBackRankMateIsCheckmate() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Rook(WHITE, board.getFloor(1, 1));
+        new King(WHITE, board.getFloor(8, 1));
+
+        assertEquals(GameState.CHECKMATE, evaluator.evaluate(board.getBitBoard(), BLACK));
+    }
+
+    @Test
+    void testThatCheckWhichCanBeBlockedIsNotCheckmate() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Bishop(BLACK, board.getFloor(3, 5));
+        new Rook(WHITE, board.getFloor(1, 1));
+        new King(WHITE, board.getFloor(8, 1));
+
+        assertEquals(GameState.CHECK, evaluator.evaluate(board.getBitBoard(), BLACK));
+    }
+
+    @Test
+    void testThatKingWithNoLegalMoveOutOfCheckIsStalemated() {
+        new King(BLACK, board.getFloor(1, 1));
+        new Queen(WHITE, board.getFloor(3, 2));
+        new King(WHITE, board.getFloor(8, 8));
+
+        assertEquals(GameState.STALEMATE, evaluator.evaluate(board.getBitBoard(), BLACK));
+        assertEquals(GameState.IN_PROGRESS, evaluator.evaluate(board.getBitBoard(), WHITE));
+    }
+
+    @Test
+    void testThatLoneMinorPiecesAreInsufficientMaterial() {
+        new King(BLACK, board.getFloor(1, 1));
+        new King(WHITE, board.getFloor(8, 8));
+        new Bishop(WHITE, board.getFloor(5, 5));
+        BitBoard bitBoard = board.getBitBoard();
+        assertEquals(GameState.INSUFFICIENT_MATERIAL, evaluator.evaluate(bitBoard, BLACK));
+
+        new Bishop(BLACK, board.getFloor(3, 3));
+        assertTrue(GameStateEvaluator.hasInsufficientMaterial(bitBoard));
+
+        new Knight(BLACK, board.getFloor(2, 6));
+        assertFalse(GameStateEvaluator.hasInsufficientMaterial(bitBoard));
+    }
+
+    @Test
+    void testThatEvaluatingLeavesTheBoardUntouched() {
+        King king = new King(BLACK, board.getFloor(1, 1));
+        new Rook(WHITE, board.getFloor(2, 1));
+        new King(WHITE, board.getFloor(8, 8));
+        long occupancy = board.getBitBoard().getOccupancy();
+
+        assertEquals(GameState.CHECK, evaluator.evaluate(board.getBitBoard(), BLACK));
+        assertEquals(occupancy, board.getBitBoard().getOccupancy());
+        assertEquals(board.getFloor(1, 1), king.getCurrentFloor());
+    }
+}
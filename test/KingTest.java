@@ -636,7 +636,7 @@ public class KingTest {
     @Test
     void testThatKingCanBeCheckMated_8() {
         Floor kingFloor = board.getFloor(1, 8);
-        Floor knightFloor = board.getFloor(6, 3);
+        Floor knightFloor = board.getFloor(3, 6);
         Floor rookFloor = board.getFloor(2, 8);
 
         King king = new King(BLACK, kingFloor);
@@ -669,4 +669,48 @@ public class KingTest {
         king.counterCheckMove(board);
         assertTrue(king.isCheckMated());
     }
+
+    @Test
+    void testThatKingIsNoLongerCheckedOnceCheckIsBlocked() {
+        King king = new King(BLACK, board.getFloor(1, 1));
+        new Queen(WHITE, board.getFloor(8, 1));
+
+        king.scanForChecked(board);
+        assertTrue(king.isChecked());
+
+        new Pawn(BLACK, board.getFloor(4, 1));
+        king.scanForChecked(board);
+        assertFalse(king.isChecked());
+    }
+
+    @Test
+    void testThatCheckedKingWithAnEscapeFloorIsNotCheckMated() {
+        Floor kingFloor = board.getFloor(1, 8);
+        King king = new King(BLACK, kingFloor);
+        new Rook(WHITE, board.getFloor(2, 8));
+
+        king.scanForChecked(board);
+        assertTrue(king.isChecked());
+
+        king.counterCheckMove(board);
+        assertFalse(king.isCheckMated());
+        assertEquals(kingFloor, king.getCurrentFloor());
+        assertFalse(king.hasMadeFirstMove());
+    }
+
+    @Test
+    void testThatCheckedKingWhoseCheckCanBeBlockedIsNotCheckMated() {
+        King king = new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Knight(BLACK, board.getFloor(3, 4));
+        new Rook(WHITE, board.getFloor(1, 1));
+
+        king.scanForChecked(board);
+        assertTrue(king.isChecked());
+
+        king.counterCheckMove(board);
+        assertFalse(king.isCheckMated());
+    }
 }
@@ -0,0 +1,174 @@
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.MoveGenerator;
+import game.engine.MoveList;
+import game.engine.Moves;
+import game.notation.Fen;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveGeneratorTest {
+    Board board;
+    MoveList moves;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+        moves = new MoveList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+        moves = null;
+    }
+
+    @Test
+    void testThatEachSideHasTwentyLegalMovesInTheStartingPosition() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(set.getBoard(), WHITE), moves);
+        assertEquals(20, moves.size());
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(set.getBoard(), BLACK), moves);
+        assertEquals(20, moves.size());
+    }
+
+    @Test
+    void testThatMovesAreEncodedWithStandardSquareNames() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(set.getBoard(), WHITE), moves);
+
+        int doublePush = Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false);
+        assertTrue(moves.contains(doublePush));
+        assertEquals("e2e4", Moves.toString(doublePush));
+        assertEquals(square(7, 5), Moves.parseSquare("e2", 0));
+    }
+
+    @Test
+    void testThatPinnedPieceCannotLeaveThePinLine() {
+        new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(6, 5));
+        new Rook(BLACK, board.getFloor(1, 5));
+        new King(BLACK, board.getFloor(1, 1));
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(board, WHITE), moves);
+
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (Moves.from(move) == square(6, 5)) {
+                assertEquals(5, BitBoard.fileOf(Moves.to(move)));
+            }
+        }
+        assertEquals(5 + 6, moves.size());
+    }
+
+    @Test
+    void testThatKingInCheckOnlyHasMovesThatResolveTheCheck() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Queen(WHITE, board.getFloor(4, 5));
+        new Knight(BLACK, board.getFloor(3, 3));
+        new King(WHITE, board.getFloor(8, 8));
+
+        BitBoard position = BitBoard.of(board, BLACK);
+        assertTrue(MoveGenerator.isInCheck(position, BLACK));
+
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        assertTrue(moves.contains(Moves.encode(square(3, 3), square(2, 5), Moves.NORMAL, false)));
+        assertTrue(moves.contains(Moves.encode(square(3, 3), square(4, 5), Moves.NORMAL, true)));
+        assertFalse(moves.contains(Moves.encode(square(3, 3), square(5, 4), Moves.NORMAL, false)));
+    }
+
+    @Test
+    void testThatUnmovedKingAndRooksCanCastleBothWays() {
+        new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(8, 1));
+        new Rook(WHITE, board.getFloor(8, 8));
+        new King(BLACK, board.getFloor(1, 5));
+
+        BitBoard position = BitBoard.of(board, WHITE);
+        assertEquals(BitBoard.WHITE_KING_SIDE | BitBoard.WHITE_QUEEN_SIDE, position.getCastlingRights());
+
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        assertTrue(moves.contains(Moves.encode(square(8, 5), square(8, 7), Moves.CASTLE, false)));
+        assertTrue(moves.contains(Moves.encode(square(8, 5), square(8, 3), Moves.CASTLE, false)));
+    }
+
+    @Test
+    void testThatKingCannotCastleThroughAttackedFloor() {
+        new King(WHITE, board.getFloor(8, 5));
+        new Rook(WHITE, board.getFloor(8, 8));
+        new Rook(BLACK, board.getFloor(1, 6));
+        new King(BLACK, board.getFloor(1, 1));
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(board, WHITE), moves);
+
+        assertFalse(moves.contains(Moves.encode(square(8, 5), square(8, 7), Moves.CASTLE, false)));
+    }
+
+    @Test
+    void testThatPawnReachingLastRankHasFourPromotions() {
+        new Pawn(WHITE, board.getFloor(2, 1));
+        new King(WHITE, board.getFloor(8, 8));
+        new King(BLACK, board.getFloor(1, 8));
+
+        MoveGenerator.generateLegalMoves(BitBoard.of(board, WHITE), moves);
+
+        int promotions = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            if (Moves.isPromotion(moves.get(index))) promotions++;
+        }
+        assertEquals(4, promotions);
+    }
+
+    @Test
+    void testThatPawnCanCaptureEnPassant() {
+        new Pawn(WHITE, board.getFloor(4, 5));
+        new Pawn(BLACK, board.getFloor(4, 4));
+        new King(WHITE, board.getFloor(8, 8));
+        new King(BLACK, board.getFloor(1, 1));
+
+        BitBoard position = BitBoard.of(board, WHITE);
+        position.setEnPassantSquare(square(3, 4));
+        MoveGenerator.generateLegalMoves(position, moves);
+
+        assertTrue(moves.contains(Moves.encode(square(4, 5), square(3, 4), Moves.EN_PASSANT, true)));
+    }
+
+    @Test
+    void testThatCapturesAreTheLegalCapturesAndPromotions() {
+        BitBoard position = Fen.toBitBoard("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        position.makeMove(Moves.encode(square(7, 1), square(5, 1), Moves.DOUBLE_PUSH, false));
+        MoveList captures = new MoveList();
+
+        MoveGenerator.generateLegalMoves(position, moves);
+        MoveGenerator.generateLegalCaptures(position, captures);
+
+        int tacticalMoves = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (Moves.isCapture(move) || Moves.isPromotion(move)) {
+                tacticalMoves++;
+                assertTrue(captures.contains(move));
+            }
+        }
+        assertEquals(tacticalMoves, captures.size());
+        assertTrue(captures.contains(Moves.encode(square(5, 2), square(6, 1), Moves.EN_PASSANT, true)));
+    }
+}
@@ -0,0 +1,110 @@
+import game.archive.MoveJournal;
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.notation.Fen;
+import game.notation.PgnGame;
+import game.notation.San;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveJournalTest {
+    static final String[] OPENING = {"e4", "e5", "Nf3", "Nc6", "Bc4", "Bc5", "O-O"};
+
+    Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("games", ".journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+        path = null;
+    }
+
+    @Test
+    void testThatUnfinishedGameIsRebuiltFromTheJournal() throws IOException {
+        Set set = new Set(new Player("olu", WHITE), new Player("ehis", BLACK));
+        set.setUp(Fen.STARTING_POSITION);
+        try (MoveJournal journal = new MoveJournal(path, MoveJournal.SyncPolicy.EVERY_MOVE)) {
+            long finished = journal.startGame("slim", "olu", Fen.STARTING_POSITION);
+            journal.endGame(finished, PgnGame.DRAW);
+            long gameId = journal.startGame("olu", "ehis", Fen.STARTING_POSITION);
+            BitBoard position = Fen.toBitBoard(Fen.STARTING_POSITION);
+            for (String san : OPENING) {
+                int move = San.toMove(position, san);
+                set.getPlayerToMove().makeMove(set.getBoard(), move);
+                position.makeMove(move);
+                journal.recordMove(gameId, move);
+            }
+            assertEquals(OPENING.length + 3, journal.getSyncs());
+        }
+
+        try (MoveJournal journal = new MoveJournal(path)) {
+            Map<Long, PgnGame> games = journal.getRecoveredGames();
+            assertEquals(2, games.size());
+            assertEquals(PgnGame.DRAW, games.get(1L).getResult());
+            assertEquals(2, journal.getUnfinishedGameId());
+
+            Set restored = MoveJournal.restore(games.get(2L));
+            assertEquals(set.toFen(), restored.toFen());
+            assertEquals("olu", restored.getWhitePiecePlayer().getUsername());
+            assertEquals(3, journal.startGame("ehis", "olu", Fen.STARTING_POSITION));
+        }
+    }
+
+    @Test
+    void testThatRecordTornByACrashIsCutOffOnRecovery() throws IOException {
+        try (MoveJournal journal = new MoveJournal(path, MoveJournal.SyncPolicy.BATCHED, 4, 1000)) {
+            long gameId = journal.startGame("olu", "ehis", "4k3/8/4K3/8/8/8/8/R7 w - - 0 1");
+            BitBoard position = Fen.toBitBoard("4k3/8/4K3/8/8/8/8/R7 w - - 0 1");
+            journal.recordMove(gameId, San.toMove(position, "Ra8#"));
+            assertEquals(0, journal.getSyncs());
+        }
+        long intact = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 13, 1, 2, 3}));
+        }
+
+        try (MoveJournal journal = new MoveJournal(path, MoveJournal.SyncPolicy.INTERVAL)) {
+            assertEquals(intact, Files.size(path));
+            PgnGame game = journal.getRecoveredGames().get(1L);
+            assertEquals(1, game.getMoveCount());
+            assertTrue(MoveJournal.restore(game).isGameOver());
+            journal.endGame(1, PgnGame.WHITE_WINS);
+        }
+        assertEquals(PgnGame.WHITE_WINS, MoveJournal.recover(path).get(1L).getResult());
+    }
+
+    @Test
+    void testThatIntervalJournalKeepsEveryMoveWhenClosedMidSync() throws IOException {
+        for (int round = 0; round < 20; round++) {
+            try (MoveJournal journal = new MoveJournal(path, MoveJournal.SyncPolicy.INTERVAL, 1, 1)) {
+                long gameId = journal.startGame("olu", "ehis", Fen.STARTING_POSITION);
+                BitBoard position = Fen.toBitBoard(Fen.STARTING_POSITION);
+                for (String san : OPENING) {
+                    int move = San.toMove(position, san);
+                    position.makeMove(move);
+                    journal.recordMove(gameId, move);
+                }
+            }
+            Map<Long, PgnGame> games = MoveJournal.recover(path);
+            assertEquals(OPENING.length, games.get((long) games.size()).getMoveCount());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+import game.components.ComputerPlayer;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.Moves;
+import game.engine.ParallelSearch;
+import game.engine.SearchLimits;
+import game.engine.TranspositionTable;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelSearchTest {
+    Board board;
+    ParallelSearch search;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+        search = new ParallelSearch(new TranspositionTable(4), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        search.close();
+        board = null;
+    }
+
+    @Test
+    void testThatParallelSearchFindsTheSameMateAsASingleThread() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Rook(WHITE, board.getFloor(8, 1));
+        new King(WHITE, board.getFloor(8, 7));
+
+        int move = search.search(BitBoard.of(board, WHITE), SearchLimits.depth(4));
+
+        assertEquals(Moves.encode(square(8, 1), square(1, 1), Moves.NORMAL, false), move);
+        assertEquals(4, search.getThreads());
+    }
+
+    @Test
+    void testThatHelpersStopWhenMainSearchFinishes() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Queen(BLACK, board.getFloor(1, 4));
+        new Knight(BLACK, board.getFloor(1, 2));
+        new King(WHITE, board.getFloor(8, 5));
+        new Queen(WHITE, board.getFloor(8, 4));
+        new Bishop(WHITE, board.getFloor(8, 3));
+
+        for (int round = 0; round < 3; round++) {
+            int move = search.search(BitBoard.of(board, WHITE), SearchLimits.depth(3));
+            assertNotEquals(Moves.NONE, move);
+        }
+
+        search.search(BitBoard.of(board, WHITE), SearchLimits.time(100));
+        assertTrue(search.getNodes() > search.getMainSearch().getNodes());
+        assertTrue(search.getElapsedNanos() < 2_000_000_000L);
+    }
+
+    @Test
+    void testThatComputerPlayerCanSearchWithSeveralThreads() {
+        new King(BLACK, board.getFloor(1, 1));
+        new Queen(BLACK, board.getFloor(4, 4));
+        new King(WHITE, board.getFloor(8, 8));
+        Knight knight = new Knight(WHITE, board.getFloor(6, 5));
+        try (ComputerPlayer computer = new ComputerPlayer("bot", WHITE, SearchLimits.depth(4), new TranspositionTable(4), 2)) {
+            computer.playMove(board);
+        }
+
+        assertEquals(board.getFloor(4, 4), knight.getCurrentFloor());
+    }
+}
@@ -3,6 +3,7 @@ import game.components.board.Floor;
 import game.pieces.Pawn;
 import game.pieces.Piece;
 import game.properties.Move;
+import game.properties.MoveStatus;
 import game.gameExceptions.InvalidMoveException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -155,6 +156,34 @@ public class PawnTest {
         assertNull(floor.getCurrentOccupant());
     }
 
+    @Test
+    void testThatWhitePawnCanMoveOneStepForwardDiagonallyToCaptureEnemy(){
+        Floor floor = board.getFloor(7, 2);
+        Floor enemyFloor = board.getFloor(6, 3);
+        Pawn pawn = new Pawn(WHITE, floor);
+        Pawn enemyPawn = new Pawn(BLACK, enemyFloor);
+
+        pawn.move(enemyFloor, board);
+
+        assertEquals(enemyFloor, pawn.getCurrentFloor());
+        assertTrue(enemyPawn.isCaptured());
+        assertNull(floor.getCurrentOccupant());
+    }
+
+    @Test
+    void testThatPawnTryingToJumpOverPieceOnFirstMove_returnsObstructedWithoutMoving(){
+        Floor floor = board.getFloor(2, 2);
+        Floor destinationFloor = board.getFloor(4, 2);
+        Pawn pawn = new Pawn(BLACK, floor);
+        new Pawn(WHITE, board.getFloor(3, 2));
+
+        assertFalse(pawn.isLegal(destinationFloor, board));
+        assertEquals(MoveStatus.OBSTRUCTED, pawn.tryMove(destinationFloor, board));
+        assertEquals(MoveStatus.UNREACHABLE, pawn.tryMove(board.getFloor(1, 2), board));
+        assertEquals(floor, pawn.getCurrentFloor());
+        assertFalse(pawn.hasMadeFirstMove());
+    }
+
     @Test
     void testThatPawnMovingOneStepForwardDiagonallyToUnoccupiedFloor_throwsInvalidMoveException(){
         Floor floor = board.getFloor(2, 2);
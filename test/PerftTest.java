@@ -0,0 +1,192 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.Floor;
+import game.engine.Perft;
+import game.notation.Fen;
+import game.pieces.*;
+import game.pieces.king.King;
+import game.properties.Colour;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PerftTest {
+    Board board;
+    Perft perft;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+        perft = new Perft(6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+        perft = null;
+    }
+
+    @Test
+    void testThatStartingPositionMatchesReferenceNodeCounts() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+        BitBoard position = BitBoard.of(set.getBoard(), WHITE);
+
+        assertEquals(20, perft.perft(position, 1));
+        assertEquals(400, perft.perft(position, 2));
+        assertEquals(8902, perft.perft(position, 3));
+        assertEquals(197281, perft.perft(position, 4));
+    }
+
+    @Test
+    void testThatKiwipeteMatchesReferenceNodeCounts() {
+        BitBoard position = place(
+                "r...k..r",
+                "p.ppqpb.",
+                "bn..pnp.",
+                "...PN...",
+                ".p..P...",
+                "..N..Q.p",
+                "PPPBBPPP",
+                "R...K..R");
+
+        assertEquals(48, perft.perft(position, 1));
+        assertEquals(2039, perft.perft(position, 2));
+        assertEquals(97862, perft.perft(position, 3));
+    }
+
+    @Test
+    void testThatEndgamePositionMatchesReferenceNodeCounts() {
+        BitBoard position = place(
+                "........",
+                "..p.....",
+                "...p....",
+                "KP.....r",
+                ".R...p.k",
+                "........",
+                "....P.P.",
+                "........");
+
+        assertEquals(14, perft.perft(position, 1));
+        assertEquals(191, perft.perft(position, 2));
+        assertEquals(2812, perft.perft(position, 3));
+        assertEquals(43238, perft.perft(position, 4));
+    }
+
+    @Test
+    void testThatPromotionHeavyPositionMatchesReferenceNodeCounts() {
+        BitBoard position = place(
+                "r...k..r",
+                "Pppp.ppp",
+                ".b...nbN",
+                "nP......",
+                "BBP.P...",
+                "q....N..",
+                "Pp.P..PP",
+                "R..Q.RK.");
+
+        assertEquals(6, perft.perft(position, 1));
+        assertEquals(264, perft.perft(position, 2));
+        assertEquals(9467, perft.perft(position, 3));
+    }
+
+    @Test
+    void testThatPositionFiveMatchesReferenceNodeCounts() {
+        BitBoard position = place(
+                "rnbq.k.r",
+                "pp.Pbppp",
+                "..p.....",
+                "........",
+                "..B.....",
+                "........",
+                "PPP.NnPP",
+                "RNBQK..R");
+
+        assertEquals(44, perft.perft(position, 1));
+        assertEquals(1486, perft.perft(position, 2));
+        assertEquals(62379, perft.perft(position, 3));
+    }
+
+    @Test
+    void testThatMiddleGamePositionMatchesReferenceNodeCounts() {
+        BitBoard position = place(
+                "r....rk.",
+                ".pp.qppp",
+                "p.np.n..",
+                "..b.p.B.",
+                "..B.P.b.",
+                "P.NP.N..",
+                ".PP.QPPP",
+                "R....RK.");
+
+        assertEquals(46, perft.perft(position, 1));
+        assertEquals(2079, perft.perft(position, 2));
+        assertEquals(89890, perft.perft(position, 3));
+    }
+
+    @Test
+    void testThatPiecesAgreeWithMoveGeneratorFromStartingPosition() {
+        Set set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+        set.setUp(Fen.STARTING_POSITION);
+
+        assertEquals(8902, perft.perft(set, 3));
+        assertEquals(Fen.STARTING_POSITION, set.toFen());
+        assertEquals(0, set.getWhitePiecePlayer().getMoveCount());
+    }
+
+    @Test
+    void testThatPiecesAgreeWithMoveGeneratorOnKiwipete() {
+        String kiwipete = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+        Set set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+        set.setUp(kiwipete);
+
+        assertEquals(2039, perft.perft(set, 2));
+        assertEquals(kiwipete, set.toFen());
+    }
+
+    @Test
+    void testThatDivideSplitsNodeCountPerRootMove() {
+        Set set = new Set("olu", "slim");
+        set.generateWhitePieces();
+        set.generateBlackPieces();
+
+        Map<String, Long> counts = perft.divide(BitBoard.of(set.getBoard(), WHITE), 3);
+
+        assertEquals(20, counts.size());
+        assertEquals(600, counts.get("e2e4"));
+        assertEquals(380, counts.get("a2a3"));
+        assertEquals(8902, perft.getNodes());
+        assertTrue(perft.getNodesPerSecond() > 0);
+    }
+
+    private BitBoard place(String... ranks) {
+        for (int rank = 1; rank <= 8; rank++) {
+            String row = ranks[rank - 1];
+            for (int file = 1; file <= 8; file++) {
+                char symbol = row.charAt(file - 1);
+                if (symbol == '.') continue;
+                Colour colour = Character.isUpperCase(symbol) ? WHITE : BLACK;
+                Floor floor = board.getFloor(rank, file);
+                switch (Character.toLowerCase(symbol)) {
+                    case 'p' -> new Pawn(colour, floor);
+                    case 'n' -> new Knight(colour, floor);
+                    case 'b' -> new Bishop(colour, floor);
+                    case 'r' -> new Rook(colour, floor);
+                    case 'q' -> new Queen(colour, floor);
+                    case 'k' -> new King(colour, floor);
+                }
+            }
+        }
+        return BitBoard.of(board, WHITE);
+    }
+}
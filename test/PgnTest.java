@@ -0,0 +1,189 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.engine.Moves;
+import game.gameExceptions.InvalidMoveException;
+import game.notation.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.QUEEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PgnTest {
+    static final String OPERA_GAME = """
+            [Event "Paris"]
+            [Site "Paris FRA"]
+            [Date "1858.??.??"]
+            [Round "?"]
+            [White "Paul Morphy"]
+            [Black "Duke Karl / Count Isouard"]
+            [Result "1-0"]
+
+            1. e4 e5 2. Nf3 d6 3. d4 Bg4 {This is a weak move already.} 4. dxe5 Bxf3 5. Qxf3 dxe5
+            6. Bc4 Nf6 7. Qb3 Qe7 8. Nc3 (8. Qxb7 Qb4+ 9. Qxb4 Bxb4+) 8... c6 9. Bg5 b5 $6 10. Nxb5! cxb5
+            11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7 14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0
+            """;
+
+    Set set;
+
+    @BeforeEach
+    void setUp() {
+        set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Player.resetId();
+        set = null;
+    }
+
+    @Test
+    void testThatGameIsReadWithTagsCommentsAndVariationsSkipped() throws IOException {
+        PgnReader reader = new PgnReader(new StringReader(OPERA_GAME));
+
+        PgnGame game = reader.next();
+
+        assertEquals("Paul Morphy", game.getTag("White"));
+        assertEquals(PgnGame.WHITE_WINS, game.getResult());
+        assertEquals(33, game.getMoveCount());
+        assertEquals(Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false), game.getMove(0));
+        assertEquals(Moves.CASTLE, Moves.flag(game.getMove(22)));
+        assertNull(reader.next());
+        assertEquals(1, reader.getGamesRead());
+    }
+
+    @Test
+    void testThatGameWithIllegalMoveIsSkippedAndReported() throws IOException {
+        String games = """
+                [White "first"]
+
+                1. e4 e5 1-0
+
+                [White "broken"]
+
+                1. e4 e5 2. Ke3 {see [this]} Nc6 3. Nf3 0-1
+
+                """ + OPERA_GAME;
+        PgnReader reader = new PgnReader(new StringReader(games));
+
+        assertEquals("first", reader.next().getTag("White"));
+        PgnGame opera = reader.next();
+
+        assertEquals("Paul Morphy", opera.getTag("White"));
+        assertEquals(33, opera.getMoveCount());
+        assertNull(reader.next());
+        assertEquals(2, reader.getGamesRead());
+        assertEquals(1, reader.getGamesSkipped());
+        assertEquals("Game 2: Invalid move Ke3", reader.getErrors().get(0));
+    }
+
+    @Test
+    void testThatOnlyTheFirstErrorsAreKept() throws IOException {
+        String broken = "[White \"broken\"]\n\n1. e4 e5 2. Ke3 1-0\n\n";
+        PgnReader reader = new PgnReader(new StringReader(broken.repeat(PgnReader.MAX_ERRORS + 50) + OPERA_GAME));
+
+        assertEquals("Paul Morphy", reader.next().getTag("White"));
+        assertEquals(PgnReader.MAX_ERRORS + 50, reader.getGamesSkipped());
+        assertEquals(PgnReader.MAX_ERRORS, reader.getErrors().size());
+        assertEquals("Game 1: Invalid move Ke3", reader.getErrors().get(0));
+    }
+
+    @Test
+    void testThatReplayedGameEndsInCheckmateOnTheBoard() throws IOException {
+        PgnGame game = new PgnReader(new StringReader(OPERA_GAME)).next();
+
+        game.replay(set);
+
+        assertTrue(set.isGameOver());
+        assertEquals("1n1Rkb1r/p4ppp/4q3/4p1B1/4P3/8/PPP2PPP/2K5 b k - 1 17", set.toFen());
+    }
+
+    @Test
+    void testThatSanIsDisambiguatedAndMarksCheck() {
+        BitBoard position = Fen.toBitBoard("4k3/8/8/8/8/8/4K3/R6R w - - 0 1");
+
+        assertEquals("Rad1", San.toSan(position, San.toMove(position, "Rad1")));
+        assertEquals("Ra8+", San.toSan(position, San.toMove(position, "Ra8+")));
+        assertThrows(InvalidMoveException.class, () -> San.toMove(position, "Rd1"));
+        assertThrows(InvalidMoveException.class, () -> San.toMove(position, "Nf3"));
+
+        BitBoard promotion = Fen.toBitBoard("8/4P3/8/8/8/8/8/k6K w - - 0 1");
+        int move = San.toMove(promotion, "e8=Q");
+        assertEquals(QUEEN, Moves.promotion(move));
+        assertEquals(move, San.toMove(promotion, "e8Q"));
+    }
+
+    @Test
+    void testThatEnPassantCaptureIsReplayedOnTheBoardAndUndone() {
+        set.setUp("4k3/3p4/8/4P3/8/8/8/4K3 b - - 0 1");
+        Player white = set.getWhitePiecePlayer();
+        BitBoard position = Fen.toBitBoard(set.toFen());
+
+        int push = San.toMove(position, "d5");
+        set.getBlackPiecePlayer().makeMove(set.getBoard(), push);
+        position.makeMove(push);
+        int capture = San.toMove(position, "exd6");
+        white.makeMove(set.getBoard(), capture);
+
+        assertEquals(Moves.EN_PASSANT, Moves.flag(capture));
+        assertEquals("4k3/8/3P4/8/8/8/8/4K3 b - - 0 2", set.toFen());
+        white.undoMove();
+        assertEquals("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 2", set.toFen());
+    }
+
+    @Test
+    void testThatEnPassantIsOnlyAllowedStraightAfterTheDoubleStep() {
+        set.setUp("4k3/3p4/8/4P3/8/8/8/4K3 b - - 0 1");
+        Player white = set.getWhitePiecePlayer();
+        Player black = set.getBlackPiecePlayer();
+        int enPassant = Moves.encode(Moves.parseSquare("e5", 0), Moves.parseSquare("d6", 0), Moves.EN_PASSANT, true);
+
+        black.makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("d7", 0), Moves.parseSquare("d5", 0), Moves.DOUBLE_PUSH, false));
+        white.makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("e1", 0), Moves.parseSquare("e2", 0), Moves.NORMAL, false));
+        black.makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("e8", 0), Moves.parseSquare("e7", 0), Moves.NORMAL, false));
+
+        assertThrows(InvalidMoveException.class, () -> white.makeMove(set.getBoard(), enPassant));
+        assertEquals("8/4k3/8/3pP3/8/8/4K3/8 w - - 2 3", set.toFen());
+    }
+
+    @Test
+    void testThatEnPassantSquareFromFenCanBeCapturedOn() {
+        set.setUp("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 2");
+
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), Moves.encode(Moves.parseSquare("e5", 0), Moves.parseSquare("d6", 0), Moves.EN_PASSANT, true));
+
+        assertEquals("4k3/8/3P4/8/8/8/8/4K3 b - - 0 2", set.toFen());
+    }
+
+    @Test
+    void testThatWrittenGameReadsBackToTheSameMoves() throws IOException {
+        PgnGame original = new PgnReader(new StringReader(OPERA_GAME)).next();
+        original.replay(set);
+        StringWriter output = new StringWriter();
+
+        try (PgnWriter writer = new PgnWriter(output)) {
+            writer.write(set, Map.of("Event", "Paris"));
+            writer.write(set, Map.of("Event", "Paris again"));
+        }
+        PgnReader reader = new PgnReader(new StringReader(output.toString()));
+        PgnGame first = reader.next();
+        PgnGame second = reader.next();
+
+        assertTrue(output.toString().contains("12. O-O-O Rd8 13. Rxd7 Rxd7"));
+        assertArrayEquals(original.getMoves(), first.getMoves());
+        assertEquals("olu", first.getTag("White"));
+        assertEquals(PgnGame.WHITE_WINS, first.getResult());
+        assertEquals("Paris again", second.getTag("Event"));
+        assertNull(reader.next());
+    }
+}
@@ -1,6 +1,10 @@
+import game.components.board.BitBoard;
 import game.components.board.Board;
 import game.components.board.Floor;
 import game.components.Player;
+import game.components.Set;
+import game.notation.San;
+import game.pieces.Queen;
 import game.gameExceptions.InvalidMoveException;
 import game.pieces.Pawn;
 import game.pieces.Piece;
@@ -22,7 +26,7 @@ public class PlayerTest {
 
     @AfterEach
     void tearDown(){
-        player.resetId();
+        Player.resetId();
     }
 
     @Test
@@ -31,6 +35,23 @@ public class PlayerTest {
     }
 
 
+    @Test
+    void testThatEachPlayerKeepsItsOwnId(){
+        Player secondPlayer = new Player("olu", WHITE);
+
+        assertEquals(1, player.getId());
+        assertEquals(2, secondPlayer.getId());
+    }
+
+    @Test
+    void testThatGivenIdIsKeptAndLeavesTheSequenceAlone(){
+        Player hosted = new Player("olu", WHITE, 7);
+        Player.resetId();
+
+        assertEquals(7, hosted.getId());
+        assertEquals(1, new Player("ehis", WHITE).getId());
+    }
+
     @Test
     void testThatPlayerCanMakeMove(){
         Floor pieceFloor = board.getFloor(2,2);
@@ -74,6 +95,22 @@ public class PlayerTest {
 
     }
 
+    @Test
+    void testThatPlayerUndoingCaptureRestoresCapturedPiece(){
+        Floor pieceFloor = board.getFloor(2,2);
+        Piece piece = new Pawn(BLACK, pieceFloor);
+        Floor enemyFloor = board.getFloor(3, 3);
+        Piece enemy = new Pawn(WHITE, enemyFloor);
+
+        player.makeMove(board, piece, enemyFloor);
+        player.undoMove();
+
+        assertEquals(pieceFloor, piece.getCurrentFloor());
+        assertFalse(enemy.isCaptured());
+        assertEquals(enemy, enemyFloor.getCurrentOccupant());
+        assertEquals(enemyFloor, enemy.getCurrentFloor());
+    }
+
     @Test
     void testThatPlayerMovingPieceOfDifferentColour_throwsInvalidMoveException(){
         Floor pieceFloor = board.getFloor(2,2);
@@ -83,4 +120,60 @@ public class PlayerTest {
 
         assertThrows(InvalidMoveException.class, ()-> player.makeMove(board, piece, destinationFloor));
     }
+
+    @Test
+    void testThatUndoGivesPawnItsDoubleStepBack(){
+        Floor pieceFloor = board.getFloor(2, 2);
+        Pawn pawn = new Pawn(BLACK, pieceFloor);
+
+        player.makeMove(board, pawn, board.getFloor(4, 2));
+        assertTrue(pawn.hasMadeFirstMove());
+        player.undoMove();
+
+        assertFalse(pawn.hasMadeFirstMove());
+        assertTrue(pawn.isLegal(board.getFloor(4, 2), board));
+    }
+
+    @Test
+    void testThatUndoingPromotionPutsThePawnBackInTheSet(){
+        Set set = new Set(new Player("olu", WHITE), new Player("ehis", BLACK));
+        set.setUp("1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1");
+        Player white = set.getWhitePiecePlayer();
+        BitBoard position = BitBoard.of(set.getBoard(), WHITE);
+        Piece pawn = set.getBoard().getFloor(2, 1).getCurrentOccupant();
+        Piece rook = set.getBoard().getFloor(1, 2).getCurrentOccupant();
+
+        white.makeMove(set.getBoard(), San.toMove(position, "axb8=Q"));
+        Piece queen = set.getBoard().getFloor(1, 2).getCurrentOccupant();
+        assertTrue(queen instanceof Queen);
+        assertTrue(set.getPieces(WHITE).contains(queen));
+        assertFalse(set.getPieces(WHITE).contains(pawn));
+
+        white.undoMove();
+
+        assertEquals("1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1", set.toFen());
+        assertEquals(pawn, set.getBoard().getFloor(2, 1).getCurrentOccupant());
+        assertEquals(rook, set.getBoard().getFloor(1, 2).getCurrentOccupant());
+        assertTrue(queen.isCaptured());
+        assertTrue(set.getPieces(WHITE).contains(pawn));
+        assertFalse(set.getPieces(WHITE).contains(queen));
+    }
+
+    @Test
+    void testThatUndoingCastlingPutsKingAndRookBack(){
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1";
+        Set set = new Set(new Player("olu", WHITE), new Player("ehis", BLACK));
+        set.setUp(fen);
+        long key = set.getBoard().getZobristKey();
+        Player white = set.getWhitePiecePlayer();
+
+        for (String castle : new String[]{"O-O", "O-O-O"}) {
+            white.makeMove(set.getBoard(), San.toMove(BitBoard.of(set.getBoard(), WHITE), castle));
+            assertNotEquals(fen, set.toFen());
+            white.undoMove();
+
+            assertEquals(fen, set.toFen());
+            assertEquals(key, set.getBoard().getZobristKey());
+        }
+    }
 }
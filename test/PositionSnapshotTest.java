@@ -0,0 +1,92 @@
+import game.components.Player;
+import game.components.Set;
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.components.board.PositionSnapshot;
+import game.engine.Moves;
+import game.notation.Fen;
+import game.pieces.Rook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static game.components.board.BitBoard.*;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static game.properties.PieceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PositionSnapshotTest {
+    static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    Set set;
+
+    @BeforeEach
+    void setUp() {
+        set = new Set(new Player("olu", WHITE), new Player("slim", BLACK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Player.resetId();
+        set = null;
+    }
+
+    @Test
+    void testThatSnapshotKeepsEveryPartOfThePosition() {
+        BitBoard position = Fen.toBitBoard("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b Kq c6 1 2");
+
+        PositionSnapshot snapshot = PositionSnapshot.of(position);
+
+        assertEquals(pieceIndex(WHITE, KNIGHT), snapshot.pieceAt(square(6, 6)));
+        assertEquals(pieceIndex(BLACK, ROOK), snapshot.pieceAt(square(1, 1)));
+        assertEquals(EMPTY, snapshot.pieceAt(square(4, 4)));
+        assertEquals(BLACK, snapshot.getSideToMove());
+        assertEquals(WHITE_KING_SIDE | BLACK_QUEEN_SIDE, snapshot.getCastlingRights());
+        assertEquals(square(3, 3), snapshot.getEnPassantSquare());
+        assertEquals(position.getKey(), snapshot.getKey());
+        assertEquals(Fen.toFen(position), snapshot.toString());
+        assertEquals(position.getKey(), snapshot.toBitBoard().getKey());
+    }
+
+    @Test
+    void testThatSnapshotIsUnaffectedByLaterMoves() {
+        BitBoard position = Fen.toBitBoard(KIWIPETE);
+        PositionSnapshot snapshot = PositionSnapshot.of(position);
+
+        position.makeMove(Moves.encode(square(8, 5), square(8, 7), Moves.CASTLE, false));
+
+        assertEquals(KIWIPETE, snapshot.toString());
+        assertNotEquals(snapshot, PositionSnapshot.of(position));
+        position.unmakeMove();
+        assertEquals(snapshot, PositionSnapshot.of(position));
+        assertEquals(snapshot.hashCode(), PositionSnapshot.of(position).hashCode());
+    }
+
+    @Test
+    void testThatSnapshotRestoresIntoBoardAndSet() {
+        set.setUp(KIWIPETE);
+        set.getWhitePiecePlayer().makeMove(set.getBoard(), set.getBoard().getFloor(7, 1).getCurrentOccupant(), set.getBoard().getFloor(5, 1));
+        PositionSnapshot snapshot = set.snapshot();
+
+        Board board = snapshot.toBoard();
+        Set restored = new Set(new Player("ehis", WHITE), new Player("ada", BLACK));
+        restored.setUp(snapshot);
+
+        assertEquals(set.getBoard(), board);
+        assertFalse(((Rook) board.getFloor(8, 8).getCurrentOccupant()).hasMadeFirstMove());
+        assertEquals(set.toFen(), restored.toFen());
+        assertEquals(BLACK, restored.getSideToMove());
+    }
+
+    @Test
+    void testThatSnapshotCanBeHandedToAnotherThread() throws Exception {
+        PositionSnapshot snapshot = PositionSnapshot.of(Fen.toBitBoard(KIWIPETE));
+
+        String fen = CompletableFuture.supplyAsync(() -> Fen.toFen(snapshot.toBitBoard())).get();
+
+        assertEquals(KIWIPETE, fen);
+    }
+}
@@ -1,3 +1,4 @@
+import game.components.board.BitBoard;
 import game.components.board.Board;
 import game.components.board.Floor;
 import game.pieces.*;
@@ -365,4 +366,17 @@ public class QueenTest {
 
     }
 
+    @Test
+    void testThatQueenMoveLeavesNoOtherPieceOnItsPreviousFloor(){
+        Floor floor = board.getFloor(4, 4);
+        Floor destinationFloor = board.getFloor(7, 7);
+        Queen queen = new Queen(BLACK, floor);
+
+        queen.move(destinationFloor, board);
+
+        assertNull(floor.getCurrentOccupant());
+        assertFalse(board.getBitBoard().isOccupied(BitBoard.square(floor)));
+        assertEquals(queen, destinationFloor.getCurrentOccupant());
+    }
+
 }
@@ -5,6 +5,7 @@ import game.pieces.Pawn;
 import game.pieces.Piece;
 import game.pieces.Rook;
 import game.properties.Move;
+import game.properties.MoveStatus;
 import game.gameExceptions.InvalidMoveException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -122,6 +123,18 @@ public class RookTest {
        assertThrows(InvalidMoveException.class, ()-> rook.move(fourthFloor, board));
     }
 
+    @Test
+    void testThatRookMovingNeitherStraightNorDiagonally_throwsInvalidMoveException(){
+        Floor rookFloor = board.getFloor(4,4);
+        Floor firstFloor = board.getFloor(6,5);
+        Floor secondFloor = board.getFloor(3,1);
+        Rook rook = new Rook(BLACK, rookFloor);
+
+        assertThrows(InvalidMoveException.class, ()-> rook.move(firstFloor, board));
+        assertThrows(InvalidMoveException.class, ()-> rook.move(secondFloor, board));
+        assertEquals(rookFloor, rook.getCurrentFloor());
+    }
+
     @Test
     void testThatRookMovingToFloorObstructedByAPiece_throwsInvalidMoveException(){
         Floor rookFloor = board.getFloor(4, 4);
@@ -150,6 +163,23 @@ public class RookTest {
         assertThrows(InvalidMoveException.class, ()-> rook.move(eighthFloor, board));
     }
 
+    @Test
+    void testThatRookTryMoveReportsWhyMoveIsIllegalWithoutMoving(){
+        Floor floor = board.getFloor(1, 1);
+        Rook rook = new Rook(BLACK, floor);
+        new Pawn(BLACK, board.getFloor(1, 4));
+        new Pawn(WHITE, board.getFloor(4, 1));
+
+        assertEquals(MoveStatus.UNREACHABLE, rook.tryMove(board.getFloor(2, 2), board));
+        assertEquals(MoveStatus.OBSTRUCTED, rook.tryMove(board.getFloor(1, 6), board));
+        assertEquals(MoveStatus.OCCUPIED_BY_OWN_PIECE, rook.tryMove(board.getFloor(1, 4), board));
+        assertEquals(floor, rook.getCurrentFloor());
+        assertFalse(rook.hasMadeFirstMove());
+
+        assertEquals(MoveStatus.LEGAL, rook.tryMove(board.getFloor(4, 1), board));
+        assertEquals(board.getFloor(4, 1), rook.getCurrentFloor());
+    }
+
     @Test
     void testThatRookCanCaptureEnemy(){
         Floor floor = board.getFloor(2,1);
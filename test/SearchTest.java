@@ -0,0 +1,102 @@
+import game.components.board.BitBoard;
+import game.components.board.Board;
+import game.engine.Moves;
+import game.engine.Search;
+import game.engine.SearchLimits;
+import game.engine.TranspositionTable;
+import game.pieces.*;
+import game.pieces.king.King;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.properties.Colour.BLACK;
+import static game.properties.Colour.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchTest {
+    Board board;
+    Search search;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(8, 8);
+        search = new Search(new TranspositionTable(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+        search = null;
+    }
+
+    @Test
+    void testThatSearchFindsBackRankMate() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Rook(WHITE, board.getFloor(8, 1));
+        new King(WHITE, board.getFloor(8, 7));
+
+        int move = search.search(BitBoard.of(board, WHITE), SearchLimits.depth(3));
+
+        assertEquals(Moves.encode(square(8, 1), square(1, 1), Moves.NORMAL, false), move);
+        assertTrue(search.getScore() >= Search.MATE - Search.MAX_PLY);
+    }
+
+    @Test
+    void testThatQuiescenceSeesMateInsteadOfStandingPatInCheck() {
+        new King(BLACK, board.getFloor(1, 7));
+        new Pawn(BLACK, board.getFloor(2, 6));
+        new Pawn(BLACK, board.getFloor(2, 7));
+        new Pawn(BLACK, board.getFloor(2, 8));
+        new Rook(WHITE, board.getFloor(8, 1));
+        new King(WHITE, board.getFloor(8, 7));
+
+        int move = search.search(BitBoard.of(board, WHITE), SearchLimits.depth(1));
+
+        assertEquals(Moves.encode(square(8, 1), square(1, 1), Moves.NORMAL, false), move);
+        assertEquals(Search.MATE - 1, search.getScore());
+    }
+
+    @Test
+    void testThatSearchCapturesUndefendedQueen() {
+        new King(BLACK, board.getFloor(1, 1));
+        new Queen(BLACK, board.getFloor(4, 4));
+        new King(WHITE, board.getFloor(8, 8));
+        new Knight(WHITE, board.getFloor(6, 5));
+
+        int move = search.search(BitBoard.of(board, WHITE), SearchLimits.depth(4));
+
+        assertEquals(square(6, 5), Moves.from(move));
+        assertEquals(square(4, 4), Moves.to(move));
+        assertTrue(Moves.isCapture(move));
+    }
+
+    @Test
+    void testThatSearchStopsWithinNodeBudgetAndStillReturnsAMove() {
+        new King(BLACK, board.getFloor(1, 5));
+        new Queen(BLACK, board.getFloor(1, 4));
+        new Rook(BLACK, board.getFloor(1, 1));
+        new King(WHITE, board.getFloor(8, 5));
+        new Queen(WHITE, board.getFloor(8, 4));
+        new Rook(WHITE, board.getFloor(8, 8));
+
+        int move = search.search(BitBoard.of(board, WHITE), SearchLimits.nodes(500));
+
+        assertNotEquals(Moves.NONE, move);
+        assertTrue(search.getNodes() <= 500);
+        assertTrue(search.getNodesPerSecond() > 0);
+    }
+
+    @Test
+    void testThatSearchHasNoMoveWhenStalemated() {
+        new King(BLACK, board.getFloor(1, 1));
+        new Queen(WHITE, board.getFloor(3, 2));
+        new King(WHITE, board.getFloor(8, 8));
+
+        assertEquals(Moves.NONE, search.search(BitBoard.of(board, BLACK), SearchLimits.depth(2)));
+    }
+}
@@ -0,0 +1,100 @@
+import game.gameExceptions.GameNotFoundException;
+import game.gameExceptions.InvalidMoveException;
+import game.properties.GameState;
+import game.server.GameSession;
+import game.server.MoveResult;
+import game.server.SessionExecutors;
+import game.server.SessionHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionHostTest {
+    static final String[] FOOLS_MATE = {"f3", "e5", "g4", "Qh4#"};
+
+    SessionHost host;
+
+    @BeforeEach
+    void setUp() {
+        host = new SessionHost();
+    }
+
+    @AfterEach
+    void tearDown() {
+        host.close();
+        host = null;
+    }
+
+    @Test
+    void testThatEverySessionPlaysItsMovesOnItsOwnThread() throws Exception {
+        List<Long> sessions = new ArrayList<>();
+        List<CompletableFuture<MoveResult>> lastMoves = new ArrayList<>();
+        for (int session = 0; session < 100; session++) {
+            sessions.add(host.openSession("white" + session, "black" + session));
+        }
+        for (String move : FOOLS_MATE) {
+            lastMoves.clear();
+            for (long session : sessions) {
+                lastMoves.add(host.submitMove(session, move));
+            }
+        }
+
+        for (CompletableFuture<MoveResult> lastMove : lastMoves) {
+            assertEquals(GameState.CHECKMATE, lastMove.get().getState());
+            assertEquals(4, lastMove.get().getPly());
+        }
+        assertEquals(GameState.CHECKMATE, host.getSession(sessions.get(0)).getState());
+        assertEquals(400, host.getMetrics().getMovesPlayed());
+        assertEquals(100, host.getSessionCount());
+    }
+
+    @Test
+    void testThatMovesSubmittedWhileClosingAreAlwaysAnswered() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            GameSession session = host.getSession(host.openSession("olu", "ehis"));
+            CompletableFuture<CompletableFuture<MoveResult>> move = CompletableFuture.supplyAsync(() -> session.submitMove("e4"));
+            session.close();
+
+            assertTrue(move.get(5, TimeUnit.SECONDS).handle((result, failure) -> true).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testThatIllegalMoveFailsWithoutEndingTheSession() throws Exception {
+        long session = host.openSession("olu", "ehis");
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> host.submitMove(session, "e6").get());
+        assertTrue(failure.getCause() instanceof InvalidMoveException);
+        assertEquals("e4", host.submitMove(session, "e4").get().getSan());
+        assertEquals(1, host.getMetrics().getMovesRejected());
+    }
+
+    @Test
+    void testThatClosedSessionRejectsMoves() {
+        long session = host.openSession("olu", "ehis");
+        assertTrue(host.closeSession(session));
+        assertFalse(host.closeSession(session));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> host.submitMove(session, "e4").get());
+        assertTrue(failure.getCause() instanceof GameNotFoundException);
+        assertEquals(0, host.getMetrics().getActiveGames());
+    }
+
+    @Test
+    void testThatHostOnlyReportsVirtualThreadsForItsOwnExecutor() {
+        assertEquals(SessionExecutors.isVirtual(), host.isVirtual());
+
+        SessionHost pooled = new SessionHost(Executors.newFixedThreadPool(2));
+        assertFalse(pooled.isVirtual());
+        pooled.close();
+    }
+}
@@ -0,0 +1,106 @@
+import game.engine.Moves;
+import game.engine.TranspositionTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static game.components.board.BitBoard.square;
+import static game.engine.TranspositionTable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranspositionTableTest {
+    TranspositionTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new TranspositionTable(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        table = null;
+    }
+
+    @Test
+    void testThatStoredEntryCanBeProbedBack() {
+        long key = 0x1234_5678_9ABC_DEF0L;
+        int move = Moves.encode(square(7, 5), square(5, 5), Moves.DOUBLE_PUSH, false);
+
+        table.store(key, move, -250, 7, LOWER_BOUND);
+        long entry = table.probe(key);
+
+        assertNotEquals(NO_ENTRY, entry);
+        assertEquals(move, TranspositionTable.move(entry));
+        assertEquals(-250, score(entry));
+        assertEquals(7, depth(entry));
+        assertEquals(LOWER_BOUND, bound(entry));
+        assertEquals(NO_ENTRY, table.probe(key + 1));
+    }
+
+    @Test
+    void testThatTableSizeStaysWithinMemoryBudget() {
+        assertEquals(1024 * 1024 / 16, table.getCapacity());
+        table.resize(3);
+        assertEquals(2 * 1024 * 1024 / 16, table.getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> table.resize(0));
+    }
+
+    @Test
+    void testThatDeeperEntryIsKeptWhileShallowerOneGoesToAlwaysReplaceSlot() {
+        int buckets = table.getCapacity() / 2;
+        long deep = 5L;
+        long shallow = deep + ((long) buckets << 32) + buckets;
+        long newest = shallow + buckets;
+
+        table.store(deep, Moves.NONE, 10, 9, EXACT);
+        table.store(shallow, Moves.NONE, 20, 2, EXACT);
+        assertEquals(9, depth(table.probe(deep)));
+        assertEquals(2, depth(table.probe(shallow)));
+
+        table.store(newest, Moves.NONE, 30, 1, UPPER_BOUND);
+        assertEquals(9, depth(table.probe(deep)));
+        assertEquals(NO_ENTRY, table.probe(shallow));
+        assertEquals(30, score(table.probe(newest)));
+    }
+
+    @Test
+    void testThatNegativeDepthIsStoredAsZero() {
+        long key = 3L;
+
+        table.store(key, Moves.NONE, -40, -2, LOWER_BOUND);
+        long entry = table.probe(key);
+
+        assertEquals(0, depth(entry));
+        assertEquals(LOWER_BOUND, bound(entry));
+        assertEquals(-40, score(entry));
+    }
+
+    @Test
+    void testThatEntriesFromOlderSearchesAreReplaced() {
+        int buckets = table.getCapacity() / 2;
+        long old = 9L;
+        long fresh = old + buckets;
+
+        table.store(old, Moves.NONE, 0, 12, EXACT);
+        table.newSearch();
+        table.store(fresh, Moves.NONE, 0, 1, EXACT);
+
+        assertEquals(1, depth(table.probe(fresh)));
+        assertEquals(NO_ENTRY, table.probe(old));
+        assertTrue(table.hashfull() > 0);
+        table.clear();
+        assertEquals(NO_ENTRY, table.probe(fresh));
+    }
+
+    @Test
+    void testThatRestoringPositionWithoutMoveKeepsPreviousBestMove() {
+        long key = 42L;
+        int move = Moves.encode(square(8, 7), square(6, 6), Moves.NORMAL, false);
+
+        table.store(key, move, 15, 3, EXACT);
+        table.store(key, Moves.NONE, 5, 4, UPPER_BOUND);
+
+        assertEquals(move, TranspositionTable.move(table.probe(key)));
+        assertEquals(4, depth(table.probe(key)));
+    }
+}